@@ -0,0 +1,82 @@
+package com.neoapp.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neoapp.dto.response.ErrorResponseDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 1)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrencyLimitFilter.class);
+    private static final int RETRY_AFTER_SECONDS = 1;
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final ObjectMapper objectMapper;
+    private final Counter rejections;
+
+    public ConcurrencyLimitFilter(@Value("${http.concurrency-limit.initial-limit:20}") int initialLimit,
+                                  @Value("${http.concurrency-limit.min-limit:4}") int minLimit,
+                                  @Value("${http.concurrency-limit.max-limit:200}") int maxLimit,
+                                  @Value("${http.concurrency-limit.smoothing:0.2}") double smoothing,
+                                  @Value("${http.concurrency-limit.rtt-tolerance:2.0}") double rttTolerance,
+                                  ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry) {
+        this.limiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, smoothing, rttTolerance);
+        this.objectMapper = objectMapper;
+        this.rejections = Counter.builder("http.concurrency.rejected")
+                .register(meterRegistry);
+        Gauge.builder("http.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .register(meterRegistry);
+        Gauge.builder("http.concurrency.in-flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String requestURI = request.getRequestURI();
+        boolean limitedPath = requestURI.startsWith("/users") || requestURI.startsWith("/auth/v1/");
+        return !limitedPath || "OPTIONS".equalsIgnoreCase(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!limiter.tryAcquire()) {
+            rejections.increment();
+            logger.debug("Rejected {} {}: concurrency limit {} reached", request.getMethod(),
+                    request.getRequestURI(), limiter.getLimit());
+            response.setStatus(503);
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(RETRY_AFTER_SECONDS));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(),
+                    ErrorResponseDTO.error("Server is busy, please try again shortly"));
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean dropped = true;
+        try {
+            filterChain.doFilter(request, response);
+            dropped = response.getStatus() >= 500;
+        } finally {
+            limiter.release(System.nanoTime() - start, dropped);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.neoapp.config;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+@Component
+public class PrimaryReads {
+    private final ReadYourWrites readYourWrites;
+    private final TransactionTemplate separateTransaction;
+
+    public PrimaryReads(ReadYourWrites readYourWrites, PlatformTransactionManager transactionManager) {
+        this.readYourWrites = readYourWrites;
+        this.separateTransaction = new TransactionTemplate(transactionManager);
+        this.separateTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.separateTransaction.setReadOnly(true);
+    }
+
+    public <T> T read(Supplier<T> read) {
+        if (ReadWriteRoutingDataSource.holdsReplicaConnection()) {
+            return readYourWrites.pinned(() -> separateTransaction.execute(status -> read.get()));
+        }
+        return readYourWrites.pinned(read);
+    }
+}
@@ -0,0 +1,84 @@
+package com.neoapp.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+    private static final Logger logger = LoggerFactory.getLogger(ReadWriteRoutingDataSource.class);
+
+    private static final ThreadLocal<Integer> openReplicaConnections = ThreadLocal.withInitial(() -> 0);
+
+    enum Route { PRIMARY, REPLICA }
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReadYourWrites readYourWrites;
+    private final Duration replicaRetryInterval;
+    private volatile long replicaRetryAt = System.nanoTime();
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReadYourWrites readYourWrites,
+                                      Duration replicaRetryInterval) {
+        this.primary = primary;
+        this.replica = replica;
+        this.readYourWrites = readYourWrites;
+        this.replicaRetryInterval = replicaRetryInterval;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        return readOnly && replicaAvailable() && !readYourWrites.isActive() ? Route.REPLICA : Route.PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (determineCurrentLookupKey() == Route.REPLICA) {
+            try {
+                return tracked(replica.getConnection());
+            } catch (SQLException exception) {
+                replicaRetryAt = System.nanoTime() + replicaRetryInterval.toNanos();
+                logger.warn("Replica unavailable, routing reads to the primary for {}: {}",
+                        replicaRetryInterval, exception.getMessage());
+            }
+        }
+        return primary.getConnection();
+    }
+
+    public static boolean holdsReplicaConnection() {
+        return openReplicaConnections.get() > 0;
+    }
+
+    private static Connection tracked(Connection connection) {
+        openReplicaConnections.set(openReplicaConnections.get() + 1);
+        boolean[] closed = {false};
+        return (Connection) Proxy.newProxyInstance(ReadWriteRoutingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, arguments) -> {
+                    if ("close".equals(method.getName()) && !closed[0]) {
+                        closed[0] = true;
+                        openReplicaConnections.set(Math.max(0, openReplicaConnections.get() - 1));
+                    }
+                    try {
+                        return method.invoke(connection, arguments);
+                    } catch (InvocationTargetException exception) {
+                        throw exception.getTargetException();
+                    }
+                });
+    }
+
+    private boolean replicaAvailable() {
+        return System.nanoTime() - replicaRetryAt >= 0;
+    }
+}
@@ -0,0 +1,56 @@
+package com.neoapp.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+@Component
+public class ReadYourWrites {
+    private final Cache<String, Boolean> recentWriters;
+    private final ThreadLocal<Boolean> pinned = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    public ReadYourWrites(@Value("${datasource.routing.read-your-writes-window:5s}") Duration window) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    public void recordWrite() {
+        recordWrite(currentSubject());
+    }
+
+    public void recordWrite(String subject) {
+        if (subject != null) {
+            recentWriters.put(subject, Boolean.TRUE);
+        }
+    }
+
+    public <T> T pinned(Supplier<T> read) {
+        boolean previous = pinned.get();
+        pinned.set(Boolean.TRUE);
+        try {
+            return read.get();
+        } finally {
+            pinned.set(previous);
+        }
+    }
+
+    public boolean isActive() {
+        if (pinned.get()) {
+            return true;
+        }
+        String subject = currentSubject();
+        return subject != null && recentWriters.getIfPresent(subject) != null;
+    }
+
+    private static String currentSubject() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+}
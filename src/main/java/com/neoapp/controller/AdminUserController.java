@@ -0,0 +1,41 @@
+package com.neoapp.controller;
+
+import com.neoapp.service.UserExportService;
+import com.neoapp.service.UserImportService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/admin/v1/users")
+public class AdminUserController {
+    private final UserImportService userImportService;
+    private final UserExportService userExportService;
+
+    public AdminUserController(UserImportService userImportService, UserExportService userExportService) {
+        this.userImportService = userImportService;
+        this.userExportService = userExportService;
+    }
+
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    public void importUsers(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                            InputStream body,
+                            HttpServletResponse response) throws IOException {
+        userImportService.importUsers(body, contentType, response);
+    }
+
+    @GetMapping("/export")
+    public void exportUsers(@RequestParam(defaultValue = "ndjson") String format,
+                            HttpServletResponse response) throws IOException {
+        userExportService.exportUsers(format, response);
+    }
+}
@@ -1,9 +1,11 @@
 package com.neoapp.controller;
 
+import com.neoapp.dto.request.PageQueryDTO;
 import com.neoapp.dto.request.UpdateRequestUserDTO;
 import com.neoapp.dto.response.*;
 import com.neoapp.service.UserService;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -22,13 +24,20 @@ public class UserController {
     public ResponseEntity<PaginatedResponseDTO<DataUserDTO>> getUsers(@RequestParam(defaultValue = "0") int page,
                                                                       @RequestParam(defaultValue = "10") int size,
                                                                       @RequestParam(defaultValue = "name") String sortBy,
-                                                                      @RequestParam(defaultValue = "asc") String sortDirection) {
-        return userService.listUsersPaginated(page, size, sortBy, sortDirection);
+                                                                      @RequestParam(defaultValue = "asc") String sortDirection,
+                                                                      @RequestParam(required = false) String cursor,
+                                                                      @RequestParam(defaultValue = "exact") String count,
+                                                                      @RequestParam(required = false) Integer minAge,
+                                                                      @RequestParam(required = false) Integer maxAge,
+                                                                      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return userService.listUsersPaginated(new PageQueryDTO(page, size, sortBy, sortDirection, cursor, count, minAge, maxAge),
+                ifNoneMatch);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ResponseUserDTO> getUserById(@PathVariable UUID id) {
-        return userService.findUserById(id);
+    public ResponseEntity<ResponseUserDTO> getUserById(@PathVariable UUID id,
+                                                       @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return userService.findUserById(id, ifNoneMatch);
     }
 
     @GetMapping("/email")
@@ -47,8 +56,12 @@ public class UserController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "name") String sortBy,
-            @RequestParam(defaultValue = "asc") String sortDirection) {
-        return userService.searchUsers(q, page, size, sortBy, sortDirection);
+            @RequestParam(defaultValue = "asc") String sortDirection,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "exact") String count,
+            @RequestParam(required = false) Integer minAge,
+            @RequestParam(required = false) Integer maxAge) {
+        return userService.searchUsers(q, new PageQueryDTO(page, size, sortBy, sortDirection, cursor, count, minAge, maxAge));
     }
 
     @GetMapping("/search/name")
@@ -57,8 +70,12 @@ public class UserController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "name") String sortBy,
-            @RequestParam(defaultValue = "asc") String sortDirection) {
-        return userService.searchUsersByName(name, page, size, sortBy, sortDirection);
+            @RequestParam(defaultValue = "asc") String sortDirection,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "exact") String count,
+            @RequestParam(required = false) Integer minAge,
+            @RequestParam(required = false) Integer maxAge) {
+        return userService.searchUsersByName(name, new PageQueryDTO(page, size, sortBy, sortDirection, cursor, count, minAge, maxAge));
     }
 
     @GetMapping("/search/lastname")
@@ -67,14 +84,19 @@ public class UserController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "lastName") String sortBy,
-            @RequestParam(defaultValue = "asc") String sortDirection) {
-        return userService.searchUsersByLastName(lastName, page, size, sortBy, sortDirection);
+            @RequestParam(defaultValue = "asc") String sortDirection,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "exact") String count,
+            @RequestParam(required = false) Integer minAge,
+            @RequestParam(required = false) Integer maxAge) {
+        return userService.searchUsersByLastName(lastName, new PageQueryDTO(page, size, sortBy, sortDirection, cursor, count, minAge, maxAge));
     }
 
 
     @PutMapping("/{id}")
-    public ResponseEntity<UpdateResponseDTO> updateUser(@PathVariable UUID id, @Valid @RequestBody UpdateRequestUserDTO dto) {
-        return userService.updateUser(id, dto);
+    public ResponseEntity<UpdateResponseDTO> updateUser(@PathVariable UUID id, @Valid @RequestBody UpdateRequestUserDTO dto,
+                                                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return userService.updateUser(id, dto, ifMatch);
     }
 
     @DeleteMapping("/{id}")
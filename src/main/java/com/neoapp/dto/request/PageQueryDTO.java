@@ -0,0 +1,20 @@
+package com.neoapp.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+public record PageQueryDTO(int page,
+                           int size,
+                           String sortBy,
+                           String sortDirection,
+                           String cursor,
+                           String count,
+                           @Min(0) @Max(PageQueryDTO.MAX_AGE) Integer minAge,
+                           @Min(0) @Max(PageQueryDTO.MAX_AGE) Integer maxAge) {
+
+    public static final int MAX_AGE = 150;
+
+    public PageQueryDTO(int page, int size, String sortBy, String sortDirection, String cursor, String count) {
+        this(page, size, sortBy, sortDirection, cursor, count, null, null);
+    }
+}
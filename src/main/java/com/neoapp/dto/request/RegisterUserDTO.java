@@ -1,6 +1,8 @@
 package com.neoapp.dto.request;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.neoapp.validation.ValidCpf;
+import com.neoapp.validation.ValidEmail;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.*;
 
@@ -15,7 +17,7 @@ public record RegisterUserDTO(@NotBlank(message = "Name is required")
                               String lastName,
 
                               @NotBlank(message = "CPF is required")
-                              @Pattern(regexp = "\\d{11}", message = "CPF must contain 11 digits")
+                              @ValidCpf
                               String cpf,
 
                               @NotNull
@@ -24,11 +26,11 @@ public record RegisterUserDTO(@NotBlank(message = "Name is required")
                               @Schema(type = "string", example = "01/09/2025", pattern = "dd/MM/yyyy")
                               LocalDate dateOfBirth,
 
-                              @Email
+                              @ValidEmail
                               @NotBlank(message = "Email is required")
                               String email,
 
                               @NotBlank(message = "Password is required")
-                              @Size(min = 6, max = 100, message = "Password must be a minimum of 6 characters")
+                              @Size(min = 6, max = 100, message = "Password must have between 6 and 100 characters")
                               String password) {
 }
@@ -0,0 +1,11 @@
+package com.neoapp.dto.response;
+
+public record ErrorResponseDTO(
+        boolean success,
+        String message,
+        String timestamp)
+{
+    public static ErrorResponseDTO error(String message) {
+        return new ErrorResponseDTO(false, message, java.time.Instant.now().toString());
+    }
+}
@@ -1,6 +1,8 @@
 package com.neoapp.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -9,9 +11,15 @@ public record PaginatedResponseDTO<T>(
         String message,
         List<T> content,
         PaginationInfoDTO pagination,
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        String nextCursor,
         String timestamp
 ) {
     public static <T> PaginatedResponseDTO<T> success(String message, Page<T> page) {
+        return success(message, page, "exact");
+    }
+
+    public static <T> PaginatedResponseDTO<T> success(String message, Page<T> page, String countStrategy) {
         return new PaginatedResponseDTO<T>(
                 true,
                 message,
@@ -24,8 +32,53 @@ public record PaginatedResponseDTO<T>(
                         page.isFirst(),
                         page.isLast(),
                         page.hasNext(),
-                        page.hasPrevious()
+                        page.hasPrevious(),
+                        countStrategy
                 ),
+                null,
+                java.time.Instant.now().toString()
+        );
+    }
+
+    public static <T> PaginatedResponseDTO<T> success(String message, Slice<T> slice) {
+        return new PaginatedResponseDTO<T>(
+                true,
+                message,
+                slice.getContent(),
+                new PaginationInfoDTO(
+                        slice.getNumber(),
+                        slice.getSize(),
+                        null,
+                        null,
+                        slice.isFirst(),
+                        slice.isLast(),
+                        slice.hasNext(),
+                        slice.hasPrevious(),
+                        "none"
+                ),
+                null,
+                java.time.Instant.now().toString()
+        );
+    }
+
+    public static <T> PaginatedResponseDTO<T> success(String message, List<T> content, int pageSize,
+                                                      boolean isFirst, String nextCursor) {
+        return new PaginatedResponseDTO<T>(
+                true,
+                message,
+                content,
+                new PaginationInfoDTO(
+                        null,
+                        pageSize,
+                        null,
+                        null,
+                        isFirst,
+                        nextCursor == null,
+                        nextCursor != null,
+                        !isFirst,
+                        "none"
+                ),
+                nextCursor,
                 java.time.Instant.now().toString()
         );
     }
@@ -36,6 +89,7 @@ public record PaginatedResponseDTO<T>(
                 message,
                 null,
                 null,
+                null,
                 java.time.Instant.now().toString()
         );
     }
@@ -1,13 +1,17 @@
 package com.neoapp.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record PaginationInfoDTO(
-        int currentPage,
+        Integer currentPage,
         int pageSize,
-        long totalElements,
-        int totalPages,
+        Long totalElements,
+        Integer totalPages,
         boolean isFirst,
         boolean isLast,
         boolean hasNext,
-        boolean hasPrevious
+        boolean hasPrevious,
+        String countStrategy
 ) {
 }
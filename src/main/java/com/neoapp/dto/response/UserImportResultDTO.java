@@ -0,0 +1,22 @@
+package com.neoapp.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.UUID;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record UserImportResultDTO(
+        long line,
+        boolean success,
+        String message,
+        UUID id,
+        String email) {
+
+    public static UserImportResultDTO success(long line, UUID id, String email) {
+        return new UserImportResultDTO(line, true, "User imported successfully", id, email);
+    }
+
+    public static UserImportResultDTO error(long line, String email, String message) {
+        return new UserImportResultDTO(line, false, message, null, email);
+    }
+}
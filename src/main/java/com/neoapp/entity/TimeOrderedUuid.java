@@ -0,0 +1,38 @@
+package com.neoapp.entity;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+
+public final class TimeOrderedUuid {
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int MAX_SEQUENCE = 0xFFF;
+
+    private static long lastMillis;
+    private static int sequence;
+
+    private TimeOrderedUuid() {
+    }
+
+    public static UUID next() {
+        long millis;
+        int counter;
+        synchronized (TimeOrderedUuid.class) {
+            long now = System.currentTimeMillis();
+            if (now > lastMillis) {
+                lastMillis = now;
+                sequence = RANDOM.nextInt(MAX_SEQUENCE / 2);
+            } else if (sequence < MAX_SEQUENCE) {
+                sequence++;
+            } else {
+                lastMillis++;
+                sequence = 0;
+            }
+            millis = lastMillis;
+            counter = sequence;
+        }
+
+        long mostSignificantBits = (millis << 16) | 0x7000L | counter;
+        long leastSignificantBits = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+}
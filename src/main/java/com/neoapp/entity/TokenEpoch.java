@@ -0,0 +1,49 @@
+package com.neoapp.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "token_epochs")
+public class TokenEpoch {
+    public static final int REVOKED = -1;
+
+    @Id
+    private UUID userId;
+
+    private int epoch;
+    private Instant updatedAt;
+
+    public TokenEpoch() {
+    }
+
+    public TokenEpoch(UUID userId, int epoch, Instant updatedAt) {
+        this.userId = userId;
+        this.epoch = epoch;
+        this.updatedAt = updatedAt;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public int getEpoch() {
+        return epoch;
+    }
+
+    public void setEpoch(int epoch) {
+        this.epoch = epoch;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -2,14 +2,25 @@ package com.neoapp.entity;
 
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.UUID;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "uk_users_email", columnList = "email", unique = true),
+        @Index(name = "uk_users_cpf", columnList = "cpf", unique = true),
+        @Index(name = "idx_users_name_id", columnList = "name, id"),
+        @Index(name = "idx_users_last_name_id", columnList = "last_name, id"),
+        @Index(name = "idx_users_date_of_birth_id", columnList = "date_of_birth, id"),
+        @Index(name = "idx_users_updated_at", columnList = "updated_at")
+})
 public class User {
     @Id
     private UUID id;
@@ -20,6 +31,12 @@ public class User {
     private LocalDate dateOfBirth;
     private String email;
     private String password;
+    private String nameSearch;
+    private String lastNameSearch;
+
+    @Version
+    private long version;
+    private Instant updatedAt;
 
     public User() {
     }
@@ -36,8 +53,16 @@ public class User {
     @PrePersist
     public void generateId() {
         if (id == null) {
-            id = UUID.randomUUID();
+            id = TimeOrderedUuid.next();
         }
+        touch();
+    }
+
+    @PreUpdate
+    public void touch() {
+        nameSearch = SearchText.fold(name);
+        lastNameSearch = SearchText.fold(lastName);
+        updatedAt = Instant.now();
     }
 
     public UUID getId() {
@@ -91,4 +116,20 @@ public class User {
     public void setPassword(String password) {
         this.password = password;
     }
+
+    public String getNameSearch() {
+        return nameSearch;
+    }
+
+    public String getLastNameSearch() {
+        return lastNameSearch;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
 }
@@ -0,0 +1,68 @@
+package com.neoapp.repository;
+
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.Set;
+import java.util.UUID;
+
+public record KeysetCursor(String sortBy, Sort.Direction direction, Comparable<?> value, UUID id) {
+    public static final Set<String> SORT_KEYS = Set.of("name", "lastName", "email", "cpf", "dateOfBirth");
+
+    private static final char SEPARATOR = '|';
+
+    public static KeysetCursor first(String sortBy, Sort.Direction direction) {
+        return new KeysetCursor(sortBy, direction, null, null);
+    }
+
+    public static KeysetCursor after(String sortBy, Sort.Direction direction, Comparable<?> value, UUID id) {
+        return new KeysetCursor(sortBy, direction, value, id);
+    }
+
+    public boolean hasPosition() {
+        return id != null;
+    }
+
+    public String encode() {
+        String raw = value == null
+                ? sortBy + SEPARATOR + direction.name() + SEPARATOR + id
+                : sortBy + SEPARATOR + direction.name() + SEPARATOR + value + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String token) {
+        String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+
+        int sortEnd = raw.indexOf(SEPARATOR);
+        int directionEnd = raw.indexOf(SEPARATOR, sortEnd + 1);
+        int valueEnd = raw.lastIndexOf(SEPARATOR);
+        if (sortEnd < 0 || directionEnd < 0 || valueEnd < directionEnd) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+
+        String sortBy = raw.substring(0, sortEnd);
+        if (!SORT_KEYS.contains(sortBy)) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+
+        Sort.Direction direction = Sort.Direction.valueOf(raw.substring(sortEnd + 1, directionEnd));
+        UUID id = UUID.fromString(raw.substring(valueEnd + 1));
+        if (valueEnd == directionEnd) {
+            return after(sortBy, direction, null, id);
+        }
+
+        String value = raw.substring(directionEnd + 1, valueEnd);
+        return after(sortBy, direction, "dateOfBirth".equals(sortBy) ? parseDate(value) : value, id);
+    }
+
+    private static LocalDate parseDate(String value) {
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeException dateTimeException) {
+            throw new IllegalArgumentException("Malformed cursor", dateTimeException);
+        }
+    }
+}
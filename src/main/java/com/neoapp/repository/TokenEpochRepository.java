@@ -0,0 +1,18 @@
+package com.neoapp.repository;
+
+import com.neoapp.entity.TokenEpoch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TokenEpochRepository extends JpaRepository<TokenEpoch, UUID> {
+    List<TokenEpoch> findByUpdatedAtAfter(Instant since);
+
+    @Transactional
+    long deleteByEpochAndUpdatedAtBefore(int epoch, Instant before);
+}
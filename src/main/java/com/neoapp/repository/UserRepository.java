@@ -1,34 +1,89 @@
 package com.neoapp.repository;
 
+import com.neoapp.entity.SearchText;
 import com.neoapp.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, UUID> {
+public interface UserRepository extends JpaRepository<User, UUID>, JpaSpecificationExecutor<User>, UserRepositoryCustom {
+    String SELECT_SUMMARY = "SELECT new com.neoapp.repository.UserSummary(" +
+            "u.id, u.name, u.lastName, u.cpf, u.email, u.dateOfBirth, u.version) FROM User u";
+
     Optional<User> findByEmail(String email);
     Boolean existsByEmail(String email);
     Optional<User> findByCpf(String cpf);
     Boolean existsByCpf(String cpf);
 
-    @Query("SELECT u FROM User u WHERE LOWER(u.name) LIKE LOWER(CONCAT('%', :name, '%'))")
-    Page<User> findByNameContainingIgnoreCase(@Param("name") String name, Pageable pageable);
+    @Query(SELECT_SUMMARY + " WHERE u.id = :id")
+    Optional<UserSummary> findSummaryById(@Param("id") UUID id);
+
+    @Query(SELECT_SUMMARY + " WHERE u.email = :email")
+    Optional<UserSummary> findSummaryByEmail(@Param("email") String email);
+
+    @Query(SELECT_SUMMARY + " WHERE u.cpf = :cpf")
+    Optional<UserSummary> findSummaryByCpf(@Param("cpf") String cpf);
+
+    @Query("SELECT u.version FROM User u WHERE u.id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :upgradedHash, u.version = u.version + 1, u.updatedAt = :updatedAt " +
+            "WHERE u.id = :id AND u.password = :previousHash")
+    int updatePasswordHash(@Param("id") UUID id, @Param("previousHash") String previousHash,
+                           @Param("upgradedHash") String upgradedHash, @Param("updatedAt") Instant updatedAt);
+
+    @Query(value = "SELECT CAST(sum(version) AS bigint) FROM users_table_version_shards", nativeQuery = true)
+    long findTableVersion();
+
+    @Query(value = SELECT_SUMMARY, countQuery = "SELECT count(u) FROM User u")
+    Page<UserSummary> findAllSummaries(Pageable pageable);
+
+    @Query(value = SELECT_SUMMARY + " WHERE u.nameSearch LIKE CONCAT('%', :name, '%')",
+            countQuery = "SELECT count(u) FROM User u WHERE u.nameSearch LIKE CONCAT('%', :name, '%')")
+    Page<UserSummary> findByFoldedNameContaining(@Param("name") String name, Pageable pageable);
+
+    @Query(value = SELECT_SUMMARY + " WHERE u.lastNameSearch LIKE CONCAT('%', :lastName, '%')",
+            countQuery = "SELECT count(u) FROM User u WHERE u.lastNameSearch LIKE CONCAT('%', :lastName, '%')")
+    Page<UserSummary> findByFoldedLastNameContaining(@Param("lastName") String lastName, Pageable pageable);
+
+    @Query(value = SELECT_SUMMARY + " WHERE u.nameSearch LIKE CONCAT('%', :name, '%') " +
+            "AND u.lastNameSearch LIKE CONCAT('%', :lastName, '%')",
+            countQuery = "SELECT count(u) FROM User u WHERE u.nameSearch LIKE CONCAT('%', :name, '%') " +
+                    "AND u.lastNameSearch LIKE CONCAT('%', :lastName, '%')")
+    Page<UserSummary> findByFoldedFullNameContaining(@Param("name") String name, @Param("lastName") String lastName, Pageable pageable);
+
+    @Query(value = SELECT_SUMMARY + " WHERE u.nameSearch LIKE CONCAT('%', :search, '%') " +
+            "OR u.lastNameSearch LIKE CONCAT('%', :search, '%')",
+            countQuery = "SELECT count(u) FROM User u WHERE u.nameSearch LIKE CONCAT('%', :search, '%') " +
+                    "OR u.lastNameSearch LIKE CONCAT('%', :search, '%')")
+    Page<UserSummary> searchByFoldedNameOrLastName(@Param("search") String search, Pageable pageable);
+
+    default Page<UserSummary> findByNameContainingIgnoreCase(String name, Pageable pageable) {
+        return findByFoldedNameContaining(SearchText.fold(name), pageable);
+    }
 
-    @Query("SELECT u FROM User u WHERE LOWER(u.lastName) LIKE LOWER(CONCAT('%', :lastName, '%'))")
-    Page<User> findByLastNameContainingIgnoreCase(@Param("lastName") String lastName, Pageable pageable);
+    default Page<UserSummary> findByLastNameContainingIgnoreCase(String lastName, Pageable pageable) {
+        return findByFoldedLastNameContaining(SearchText.fold(lastName), pageable);
+    }
 
-    @Query("SELECT u FROM User u WHERE LOWER(u.name) LIKE LOWER(CONCAT('%', :name, '%')) " +
-            "AND LOWER(u.lastName) LIKE LOWER(CONCAT('%', :lastName, '%'))")
-    Page<User> findByFullNameContainingIgnoreCase(@Param("name") String name, @Param("lastName") String lastName, Pageable pageable);
+    default Page<UserSummary> findByFullNameContainingIgnoreCase(String name, String lastName, Pageable pageable) {
+        return findByFoldedFullNameContaining(SearchText.fold(name), SearchText.fold(lastName), pageable);
+    }
 
-    @Query("SELECT u FROM User u WHERE LOWER(u.name) LIKE LOWER(CONCAT('%', :search, '%')) " +
-            "OR LOWER(u.lastName) LIKE LOWER(CONCAT('%', :search, '%'))")
-    Page<User> searchByNameOrLastName(@Param("search") String search, Pageable pageable);
+    default Page<UserSummary> searchByNameOrLastName(String search, Pageable pageable) {
+        return searchByFoldedNameOrLastName(SearchText.fold(search), pageable);
+    }
 }
@@ -0,0 +1,14 @@
+package com.neoapp.repository;
+
+import com.neoapp.entity.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface UserRepositoryCustom {
+    List<UserSummary> findAfter(Specification<User> filter, KeysetCursor cursor, int limit);
+
+    Slice<UserSummary> findSlice(Specification<User> filter, Pageable pageable);
+}
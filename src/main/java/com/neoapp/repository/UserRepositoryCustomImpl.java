@@ -0,0 +1,135 @@
+package com.neoapp.repository;
+
+import com.neoapp.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiFunction;
+
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<UserSummary> findAfter(Specification<User> filter, KeysetCursor cursor, int limit) {
+        if (!cursor.hasPosition()) {
+            return findAfter(filter, cursor, (criteriaBuilder, root) -> null, limit);
+        }
+
+        boolean ascending = cursor.direction() == Sort.Direction.ASC;
+        boolean atNullSortKey = cursor.value() == null;
+        List<UserSummary> users = new ArrayList<>(findAfter(filter, cursor,
+                (criteriaBuilder, root) -> seekPredicate(criteriaBuilder, root, cursor), limit));
+
+        if (users.size() < limit && ascending != atNullSortKey) {
+            users.addAll(findAfter(filter, cursor, (criteriaBuilder, root) -> ascending
+                    ? criteriaBuilder.isNull(root.get(cursor.sortBy()))
+                    : criteriaBuilder.isNotNull(root.get(cursor.sortBy())), limit - users.size()));
+        }
+        return users;
+    }
+
+    private List<UserSummary> findAfter(Specification<User> filter, KeysetCursor cursor,
+                                        BiFunction<CriteriaBuilder, Root<User>, Predicate> position, int limit) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<UserSummary> query = criteriaBuilder.createQuery(UserSummary.class);
+        Root<User> root = query.from(User.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter != null) {
+            Predicate filterPredicate = filter.toPredicate(root, query, criteriaBuilder);
+            if (filterPredicate != null) {
+                predicates.add(filterPredicate);
+            }
+        }
+        Predicate positionPredicate = position.apply(criteriaBuilder, root);
+        if (positionPredicate != null) {
+            predicates.add(positionPredicate);
+        }
+
+        Path<Object> sortKey = root.get(cursor.sortBy());
+        Path<Object> id = root.get("id");
+        boolean ascending = cursor.direction() == Sort.Direction.ASC;
+
+        query.select(summary(criteriaBuilder, root))
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(ascending ? criteriaBuilder.asc(sortKey) : criteriaBuilder.desc(sortKey),
+                        ascending ? criteriaBuilder.asc(id) : criteriaBuilder.desc(id));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Slice<UserSummary> findSlice(Specification<User> filter, Pageable pageable) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<UserSummary> query = criteriaBuilder.createQuery(UserSummary.class);
+        Root<User> root = query.from(User.class);
+
+        query.select(summary(criteriaBuilder, root));
+        if (filter != null) {
+            Predicate filterPredicate = filter.toPredicate(root, query, criteriaBuilder);
+            if (filterPredicate != null) {
+                query.where(filterPredicate);
+            }
+        }
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, criteriaBuilder));
+
+        List<UserSummary> users = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+
+        boolean hasNext = users.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? users.subList(0, pageable.getPageSize()) : users, pageable, hasNext);
+    }
+
+    private static CompoundSelection<UserSummary> summary(CriteriaBuilder criteriaBuilder, Root<User> root) {
+        return criteriaBuilder.construct(UserSummary.class,
+                root.get("id"), root.get("name"), root.get("lastName"),
+                root.get("cpf"), root.get("email"), root.get("dateOfBirth"), root.get("version"));
+    }
+
+    private Predicate seekPredicate(CriteriaBuilder criteriaBuilder, Root<User> root, KeysetCursor cursor) {
+        Path<UUID> id = root.get("id");
+        if (cursor.value() == null) {
+            return criteriaBuilder.and(criteriaBuilder.isNull(root.get(cursor.sortBy())),
+                    cursor.direction() == Sort.Direction.ASC
+                            ? criteriaBuilder.greaterThan(id, cursor.id())
+                            : criteriaBuilder.lessThan(id, cursor.id()));
+        }
+        if (cursor.value() instanceof LocalDate date) {
+            return seek(criteriaBuilder, root.get(cursor.sortBy()), date, id, cursor);
+        }
+        return seek(criteriaBuilder, root.get(cursor.sortBy()), (String) cursor.value(), id, cursor);
+    }
+
+    private <Y extends Comparable<? super Y>> Predicate seek(CriteriaBuilder criteriaBuilder, Path<Y> sortKey, Y value,
+                                                             Path<UUID> id, KeysetCursor cursor) {
+        if (cursor.direction() == Sort.Direction.ASC) {
+            return criteriaBuilder.and(
+                    criteriaBuilder.greaterThanOrEqualTo(sortKey, value),
+                    criteriaBuilder.or(criteriaBuilder.greaterThan(sortKey, value), criteriaBuilder.greaterThan(id, cursor.id())));
+        }
+        return criteriaBuilder.and(
+                criteriaBuilder.lessThanOrEqualTo(sortKey, value),
+                criteriaBuilder.or(criteriaBuilder.lessThan(sortKey, value), criteriaBuilder.lessThan(id, cursor.id())));
+    }
+}
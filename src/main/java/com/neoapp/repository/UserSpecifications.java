@@ -0,0 +1,51 @@
+package com.neoapp.repository;
+
+import com.neoapp.entity.SearchText;
+import com.neoapp.entity.User;
+import jakarta.persistence.criteria.Path;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+
+public final class UserSpecifications {
+    private UserSpecifications() {
+    }
+
+    public static Specification<User> nameContains(String name) {
+        return (root, query, criteriaBuilder) ->
+                criteriaBuilder.like(root.get("nameSearch"), containing(name));
+    }
+
+    public static Specification<User> lastNameContains(String lastName) {
+        return (root, query, criteriaBuilder) ->
+                criteriaBuilder.like(root.get("lastNameSearch"), containing(lastName));
+    }
+
+    public static Specification<User> nameOrLastNameContains(String search) {
+        return nameContains(search).or(lastNameContains(search));
+    }
+
+    public static Specification<User> bornBetween(LocalDate earliest, LocalDate latest) {
+        return (root, query, criteriaBuilder) -> {
+            Path<LocalDate> dateOfBirth = root.get("dateOfBirth");
+            if (earliest == null) {
+                return criteriaBuilder.lessThanOrEqualTo(dateOfBirth, latest);
+            }
+            if (latest == null) {
+                return criteriaBuilder.greaterThanOrEqualTo(dateOfBirth, earliest);
+            }
+            return criteriaBuilder.between(dateOfBirth, earliest, latest);
+        };
+    }
+
+    public static Specification<User> allOf(Specification<User> first, Specification<User> second) {
+        if (first == null) {
+            return second;
+        }
+        return second == null ? first : first.and(second);
+    }
+
+    private static String containing(String term) {
+        return "%" + SearchText.fold(term) + "%";
+    }
+}
@@ -0,0 +1,20 @@
+package com.neoapp.repository;
+
+import com.neoapp.entity.User;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record UserSummary(UUID id,
+                          String name,
+                          String lastName,
+                          String cpf,
+                          String email,
+                          LocalDate dateOfBirth,
+                          long version) {
+
+    public static UserSummary from(User user) {
+        return new UserSummary(user.getId(), user.getName(), user.getLastName(), user.getCpf(), user.getEmail(),
+                user.getDateOfBirth(), user.getVersion());
+    }
+}
@@ -0,0 +1,56 @@
+package com.neoapp.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class CalibratedBCryptPasswordEncoder extends BCryptPasswordEncoder {
+    public static final int MIN_STRENGTH = 10;
+    public static final int MAX_STRENGTH = 16;
+
+    private static final int PROBE_STRENGTH = 10;
+    private static final int PROBE_RUNS = 3;
+    private static final Pattern BCRYPT_COST = Pattern.compile("\\A\\$2[aby]?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}");
+
+    private final int strength;
+
+    public CalibratedBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.matches() && Integer.parseInt(matcher.group(1)) < strength;
+    }
+
+    public static int calibrate(Duration targetLatency) {
+        new BCryptPasswordEncoder(4).encode("warm-up");
+
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(PROBE_STRENGTH);
+        long[] samples = new long[PROBE_RUNS];
+        for (int i = 0; i < PROBE_RUNS; i++) {
+            long start = System.nanoTime();
+            probe.encode("calibration-password");
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        long medianNanos = Math.max(samples[PROBE_RUNS / 2], 1);
+
+        double doublings = Math.log((double) targetLatency.toNanos() / medianNanos) / Math.log(2);
+        int strength = PROBE_STRENGTH + (int) Math.floor(doublings);
+        return Math.max(MIN_STRENGTH, Math.min(MAX_STRENGTH, strength));
+    }
+}
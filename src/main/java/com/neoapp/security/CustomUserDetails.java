@@ -9,24 +9,34 @@ import java.util.Collections;
 import java.util.UUID;
 
 public class CustomUserDetails implements UserDetails {
+    private final UUID id;
+    private final String email;
     private final User user;
 
     public CustomUserDetails(User user) {
+        this.id = user.getId();
+        this.email = user.getEmail();
         this.user = user;
     }
 
+    public CustomUserDetails(UUID id, String email) {
+        this.id = id;
+        this.email = email;
+        this.user = null;
+    }
+
     public UUID getId() {
-        return user.getId();
+        return id;
     }
 
     @Override
     public String getUsername() {
-        return user.getEmail();
+        return email;
     }
 
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return user != null ? user.getPassword() : null;
     }
 
     @Override
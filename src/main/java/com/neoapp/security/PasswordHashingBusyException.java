@@ -0,0 +1,9 @@
+package com.neoapp.security;
+
+public class PasswordHashingBusyException extends RuntimeException {
+    public static final int RETRY_AFTER_SECONDS = 1;
+
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,116 @@
+package com.neoapp.security;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+public final class RouteClassifier {
+    private static final String SUBTREE_SUFFIX = "/**";
+
+    public enum Route {
+        PUBLIC,
+        PREFLIGHT,
+        PROTECTED
+    }
+
+    private final Node root;
+
+    public RouteClassifier(Collection<String> publicPatterns) {
+        Builder builder = new Builder();
+        for (String pattern : publicPatterns) {
+            builder.add(pattern);
+        }
+        this.root = builder.build();
+    }
+
+    public Route classify(String method, String path) {
+        if (isPublic(path)) {
+            return Route.PUBLIC;
+        }
+        if ("OPTIONS".equalsIgnoreCase(method)) {
+            return Route.PREFLIGHT;
+        }
+        return Route.PROTECTED;
+    }
+
+    public boolean isPublic(String path) {
+        if (path == null) {
+            return false;
+        }
+        Node node = root;
+        for (int i = 0; i < path.length(); i++) {
+            char next = path.charAt(i);
+            if (node.subtree && next == '/') {
+                return true;
+            }
+            node = node.child(next);
+            if (node == null) {
+                return false;
+            }
+        }
+        return node.exact || node.subtree;
+    }
+
+    private static final class Node {
+        private final char[] keys;
+        private final Node[] children;
+        private final boolean exact;
+        private final boolean subtree;
+
+        private Node(char[] keys, Node[] children, boolean exact, boolean subtree) {
+            this.keys = keys;
+            this.children = children;
+            this.exact = exact;
+            this.subtree = subtree;
+        }
+
+        private Node child(char key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final class Builder {
+        private final Map<Character, Builder> children = new TreeMap<>();
+        private boolean exact;
+        private boolean subtree;
+
+        private void add(String pattern) {
+            boolean matchesSubtree = pattern.endsWith(SUBTREE_SUFFIX);
+            String prefix = matchesSubtree
+                    ? pattern.substring(0, pattern.length() - SUBTREE_SUFFIX.length())
+                    : pattern;
+            if (!pattern.startsWith("/") || prefix.indexOf('*') >= 0 || prefix.indexOf('?') >= 0
+                    || prefix.indexOf('{') >= 0) {
+                throw new IllegalArgumentException(
+                        "Unsupported route pattern '" + pattern + "', expected an exact path or a '/**' prefix");
+            }
+
+            Builder node = this;
+            for (int i = 0; i < prefix.length(); i++) {
+                node = node.children.computeIfAbsent(prefix.charAt(i), key -> new Builder());
+            }
+            if (matchesSubtree) {
+                node.subtree = true;
+            } else {
+                node.exact = true;
+            }
+        }
+
+        private Node build() {
+            char[] keys = new char[children.size()];
+            Node[] nodes = new Node[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, Builder> child : children.entrySet()) {
+                keys[i] = child.getKey();
+                nodes[i] = child.getValue().build();
+                i++;
+            }
+            return new Node(keys, nodes, exact, subtree);
+        }
+    }
+}
@@ -1,44 +1,56 @@
 package com.neoapp.security;
 
+import com.auth0.jwt.interfaces.DecodedJWT;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 
 @Component
 public class SecurityFilter extends OncePerRequestFilter {
     private static final Logger logger = LoggerFactory.getLogger(SecurityFilter.class);
-    private static final AntPathMatcher pathMatcher = new AntPathMatcher();
 
-    private static final List<String> SKIP_FILTER_URLS = Arrays.asList(
+    private static final RouteClassifier ROUTES = new RouteClassifier(List.of(
             "/auth/v1/**",
-            "/actuator/**",
+            "/actuator/health/**",
+            "/actuator/info",
+            "/actuator/prometheus",
             "/v3/api-docs/**",
             "/swagger-ui/**",
             "/swagger-ui.html",
             "/swagger-resources/**",
             "/webjars/**"
-    );
+    ));
+
+    private static final List<GrantedAuthority> ADMIN_AUTHORITIES =
+            List.of(new SimpleGrantedAuthority("ROLE_ADMIN"));
 
     private final TokenService tokenService;
     private final CustomUserDetailsService customUserDetailsService;
+    private final Set<UUID> adminUserIds;
 
-    public SecurityFilter(TokenService tokenService, CustomUserDetailsService customUserDetailsService) {
+    public SecurityFilter(TokenService tokenService, CustomUserDetailsService customUserDetailsService,
+                          @Value("${auth.admin-user-ids:}") Set<UUID> adminUserIds) {
         this.tokenService = tokenService;
         this.customUserDetailsService = customUserDetailsService;
+        this.adminUserIds = Set.copyOf(adminUserIds);
     }
 
     @Override
@@ -46,36 +58,33 @@ public class SecurityFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
 
         String requestURI = request.getRequestURI();
-        String method = request.getMethod();
-
-        logger.debug("Processing request: {} {}", method, requestURI);
+        RouteClassifier.Route route = ROUTES.classify(request.getMethod(), requestURI);
 
-        if (shouldSkipFilter(requestURI)) {
-            logger.debug("Skipping token validation for public endpoint: {}", requestURI);
-            filterChain.doFilter(request, response);
-            return;
-        }
-
-        if ("OPTIONS".equalsIgnoreCase(method)) {
-            logger.debug("Skipping token validation for OPTIONS request to: {}", requestURI);
+        if (route != RouteClassifier.Route.PROTECTED) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Skipping token validation for {} request: {} {}", route, request.getMethod(), requestURI);
+            }
             filterChain.doFilter(request, response);
             return;
         }
 
         String token = recoverToken(request);
 
-        if (token != null && !token.trim().isEmpty()) {
+        if (token != null && !token.isBlank()) {
             try {
-                String login = tokenService.validateToken(token);
+                DecodedJWT decodedToken = tokenService.verifyToken(token);
+                String login = decodedToken != null ? decodedToken.getSubject() : null;
 
-                if (login != null && !login.trim().isEmpty()) {
-                    UserDetails userDetails = customUserDetailsService.loadUserByUsername(login);
+                if (login != null && !login.isBlank()) {
+                    UserDetails userDetails = resolvePrincipal(decodedToken);
 
-                    var authentication = new UsernamePasswordAuthenticationToken(
-                            userDetails, null, userDetails.getAuthorities());
+                    if (userDetails != null) {
+                        var authentication = new UsernamePasswordAuthenticationToken(
+                                userDetails, null, authoritiesFor(userDetails));
 
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                    logger.debug("Authentication set for user: {}", login);
+                        SecurityContextHolder.getContext().setAuthentication(authentication);
+                        logger.debug("Authentication set for user: {}", login);
+                    }
                 }
             } catch (UsernameNotFoundException e) {
                 logger.warn("User not found for token: {}", e.getMessage());
@@ -87,26 +96,36 @@ public class SecurityFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    private boolean shouldSkipFilter(String requestURI) {
-        boolean shouldSkip = SKIP_FILTER_URLS.stream()
-                .anyMatch(pattern -> pathMatcher.match(pattern, requestURI));
+    private UserDetails resolvePrincipal(DecodedJWT decodedToken) {
+        if (!tokenService.hasIdentityClaims(decodedToken)) {
+            return customUserDetailsService.loadUserByUsername(decodedToken.getSubject());
+        }
+
+        if (!tokenService.isCurrent(decodedToken)) {
+            logger.warn("Rejected token issued before the user's tokens were invalidated");
+            return null;
+        }
 
-        if (shouldSkip) {
-            logger.debug("Request URI '{}' matches skip pattern", requestURI);
+        if (tokenService.isStatelessMode()) {
+            return tokenService.readPrincipal(decodedToken);
         }
-        return shouldSkip;
+        return customUserDetailsService.loadUserByUsername(decodedToken.getSubject());
+    }
+
+    private Collection<? extends GrantedAuthority> authoritiesFor(UserDetails userDetails) {
+        if (userDetails instanceof CustomUserDetails customUserDetails
+                && adminUserIds.contains(customUserDetails.getId())) {
+            return ADMIN_AUTHORITIES;
+        }
+        return userDetails.getAuthorities();
     }
 
     private String recoverToken(HttpServletRequest request) {
         String authHeader = request.getHeader("Authorization");
 
-        if (authHeader != null && authHeader.startsWith("Bearer ") && authHeader.length() > 7) {
-            String token = authHeader.substring(7);
-            logger.debug("Token found in Authorization header");
-            return token;
+        if (authHeader != null && authHeader.length() > 7 && authHeader.startsWith("Bearer ")) {
+            return authHeader.substring(7);
         }
-
-        logger.debug("No valid Bearer token found in Authorization header");
         return null;
     }
 }
\ No newline at end of file
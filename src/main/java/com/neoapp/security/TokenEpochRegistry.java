@@ -0,0 +1,105 @@
+package com.neoapp.security;
+
+import com.neoapp.config.PrimaryReads;
+import com.neoapp.entity.TokenEpoch;
+import com.neoapp.repository.TokenEpochRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class TokenEpochRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(TokenEpochRegistry.class);
+
+    private static final Duration REFRESH_OVERLAP = Duration.ofMinutes(1);
+
+    private final TokenEpochRepository tokenEpochRepository;
+    private final PrimaryReads primaryReads;
+    private final Map<UUID, Integer> epochs = new ConcurrentHashMap<>();
+    private volatile Instant watermark = Instant.EPOCH;
+
+    public TokenEpochRegistry(TokenEpochRepository tokenEpochRepository, PrimaryReads primaryReads) {
+        this.tokenEpochRepository = tokenEpochRepository;
+        this.primaryReads = primaryReads;
+    }
+
+    public int currentEpoch(UUID userId) {
+        return epochs.getOrDefault(userId, 0);
+    }
+
+    public int loadEpoch(UUID userId) {
+        Optional<TokenEpoch> stored = primaryReads.read(() -> tokenEpochRepository.findById(userId));
+        if (stored.isEmpty()) {
+            return currentEpoch(userId);
+        }
+        return epochs.merge(userId, stored.get().getEpoch(), TokenEpochRegistry::newest);
+    }
+
+    public boolean isCurrent(UUID userId, int epoch) {
+        int current = currentEpoch(userId);
+        if (current != TokenEpoch.REVOKED && epoch > current) {
+            current = loadEpoch(userId);
+        }
+        return current != TokenEpoch.REVOKED && current == epoch;
+    }
+
+    public void advance(UUID userId) {
+        TokenEpoch tokenEpoch = tokenEpochRepository.findById(userId)
+                .orElseGet(() -> new TokenEpoch(userId, 0, Instant.now()));
+
+        if (tokenEpoch.getEpoch() == TokenEpoch.REVOKED) {
+            return;
+        }
+
+        tokenEpoch.setEpoch(tokenEpoch.getEpoch() + 1);
+        tokenEpoch.setUpdatedAt(Instant.now());
+        tokenEpochRepository.save(tokenEpoch);
+        epochs.put(userId, tokenEpoch.getEpoch());
+    }
+
+    public void revoke(UUID userId) {
+        tokenEpochRepository.save(new TokenEpoch(userId, TokenEpoch.REVOKED, Instant.now()));
+        epochs.put(userId, TokenEpoch.REVOKED);
+    }
+
+    @Scheduled(fixedDelayString = "${auth.jwt.epoch-refresh-interval-ms:15000}")
+    public void refresh() {
+        try {
+            Instant since = watermark.minus(REFRESH_OVERLAP);
+            List<TokenEpoch> changed = tokenEpochRepository.findByUpdatedAtAfter(since);
+
+            Instant latest = watermark;
+            for (TokenEpoch tokenEpoch : changed) {
+                epochs.merge(tokenEpoch.getUserId(), tokenEpoch.getEpoch(), TokenEpochRegistry::newest);
+                if (tokenEpoch.getUpdatedAt().isAfter(latest)) {
+                    latest = tokenEpoch.getUpdatedAt();
+                }
+            }
+            watermark = latest;
+
+            long pruned = tokenEpochRepository.deleteByEpochAndUpdatedAtBefore(
+                    TokenEpoch.REVOKED, Instant.now().minus(TokenService.TOKEN_LIFETIME).minus(REFRESH_OVERLAP));
+            if (pruned > 0) {
+                logger.debug("Pruned {} expired token revocations", pruned);
+            }
+        } catch (Exception exception) {
+            logger.warn("Could not refresh token epochs: {}", exception.getMessage());
+        }
+    }
+
+    private static int newest(int known, int loaded) {
+        if (known == TokenEpoch.REVOKED || loaded == TokenEpoch.REVOKED) {
+            return TokenEpoch.REVOKED;
+        }
+        return Math.max(known, loaded);
+    }
+}
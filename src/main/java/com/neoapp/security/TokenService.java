@@ -1,40 +1,174 @@
 package com.neoapp.security;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.neoapp.entity.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
-import java.time.ZoneOffset;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class TokenService {
-    @Value("${auth.token}")
-    private String secretKey;
+    public static final Duration TOKEN_LIFETIME = Duration.ofHours(24);
+
+    private static final String ISSUER = "neoapp";
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String EPOCH_CLAIM = "ep";
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    });
+
+    private final Algorithm algorithm;
+    private final JWTVerifier verifier;
+    private final Cache<ByteBuffer, DecodedJWT> verifiedTokens;
+    private final String mode;
+    private final TokenEpochRegistry tokenEpochRegistry;
+    private final Timer generateTimer;
+    private final Timer verifyTimer;
+
+    public TokenService(@Value("${auth.token}") String secretKey,
+                        @Value("${auth.jwt.mode:lookup}") String mode,
+                        @Value("${auth.jwt.verified-token-cache.maximum-size:10000}") long verifiedTokenCacheSize,
+                        TokenEpochRegistry tokenEpochRegistry,
+                        MeterRegistry meterRegistry) {
+        this.algorithm = Algorithm.HMAC256(secretKey);
+        this.verifier = JWT.require(algorithm).withIssuer(ISSUER).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedTokenCacheSize)
+                .recordStats()
+                .expireAfter(new UntilTokenExpires())
+                .build();
+        this.mode = mode;
+        this.tokenEpochRegistry = tokenEpochRegistry;
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "auth.verified-tokens");
+        this.generateTimer = Timer.builder("auth.token")
+                .tag("operation", "generate")
+                .register(meterRegistry);
+        this.verifyTimer = Timer.builder("auth.token")
+                .tag("operation", "verify")
+                .register(meterRegistry);
+    }
 
     public String generateToken(User user) {
+        return generateTimer.record(() -> createToken(user));
+    }
+
+    private String createToken(User user) {
         try {
-            Algorithm algorithm = Algorithm.HMAC256(secretKey);
-            return JWT.create().withIssuer("neoapp").withSubject(user.getEmail()).withExpiresAt(generateExpirationDate()).sign(algorithm);
+            return JWT.create()
+                    .withIssuer(ISSUER)
+                    .withSubject(user.getEmail())
+                    .withClaim(USER_ID_CLAIM, user.getId().toString())
+                    .withClaim(EPOCH_CLAIM, tokenEpochRegistry.loadEpoch(user.getId()))
+                    .withExpiresAt(generateExpirationDate())
+                    .sign(algorithm);
         } catch (Exception e) {
             throw new RuntimeException("Error while generating token: " + e);
         }
     }
 
     public String validateToken(String token) {
+        DecodedJWT decodedToken = verifyToken(token);
+        return decodedToken != null ? decodedToken.getSubject() : null;
+    }
+
+    public DecodedJWT verifyToken(String token) {
+        return verifyTimer.record(() -> verify(token));
+    }
+
+    private DecodedJWT verify(String token) {
+        ByteBuffer digest = digest(token);
+        DecodedJWT cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            return cached;
+        }
+
         try {
-            Algorithm algorithm = Algorithm.HMAC256(secretKey);
-            return JWT.require(algorithm).withIssuer("neoapp").build().verify(token).getSubject();
+            DecodedJWT decodedToken = verifier.verify(token);
+            if (decodedToken.getExpiresAtAsInstant() != null) {
+                verifiedTokens.put(digest, decodedToken);
+            }
+            return decodedToken;
         } catch (JWTVerificationException e) {
             return null;
         }
     }
 
+    public boolean isStatelessMode() {
+        return "stateless".equalsIgnoreCase(mode);
+    }
+
+    public boolean hasIdentityClaims(DecodedJWT token) {
+        return token.getClaim(USER_ID_CLAIM).asString() != null;
+    }
+
+    public boolean isCurrent(DecodedJWT token) {
+        Integer epoch = token.getClaim(EPOCH_CLAIM).asInt();
+        return tokenEpochRegistry.isCurrent(readUserId(token), epoch != null ? epoch : 0);
+    }
+
+    public CustomUserDetails readPrincipal(DecodedJWT token) {
+        return new CustomUserDetails(readUserId(token), token.getSubject());
+    }
+
+    public void invalidateTokens(UUID userId) {
+        tokenEpochRegistry.advance(userId);
+    }
+
+    public void revokeTokens(UUID userId) {
+        tokenEpochRegistry.revoke(userId);
+    }
+
     public Date generateExpirationDate() {
-        return Date.from(LocalDateTime.now().plusHours(24).toInstant(ZoneOffset.UTC));
+        return Date.from(Instant.now().plus(TOKEN_LIFETIME));
+    }
+
+    private UUID readUserId(DecodedJWT token) {
+        return UUID.fromString(token.getClaim(USER_ID_CLAIM).asString());
+    }
+
+    private static ByteBuffer digest(String token) {
+        return ByteBuffer.wrap(SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    private static final class UntilTokenExpires implements Expiry<ByteBuffer, DecodedJWT> {
+        @Override
+        public long expireAfterCreate(ByteBuffer key, DecodedJWT token, long currentTime) {
+            long remainingMillis = token.getExpiresAtAsInstant().toEpochMilli() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, DecodedJWT token, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, token, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, DecodedJWT token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
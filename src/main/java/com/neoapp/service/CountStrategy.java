@@ -0,0 +1,26 @@
+package com.neoapp.service;
+
+import java.util.Locale;
+
+public enum CountStrategy {
+    EXACT,
+    ESTIMATED,
+    NONE;
+
+    public static CountStrategy from(String value) {
+        if (value == null || value.isEmpty()) {
+            return EXACT;
+        }
+
+        for (CountStrategy strategy : values()) {
+            if (strategy.name().equalsIgnoreCase(value)) {
+                return strategy;
+            }
+        }
+        return null;
+    }
+
+    public String label() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
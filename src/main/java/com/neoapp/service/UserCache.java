@@ -0,0 +1,100 @@
+package com.neoapp.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.neoapp.config.PrimaryReads;
+import com.neoapp.repository.UserSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Component
+public class UserCache {
+    private final Cache<UUID, UserSummary> usersById;
+    private final Cache<String, UUID> idsByEmail;
+    private final Cache<String, UUID> idsByCpf;
+    private final PrimaryReads primaryReads;
+
+    public UserCache(@Value("${users.cache.maximum-size:10000}") long maximumSize,
+                     @Value("${users.cache.ttl:1m}") Duration ttl,
+                     MeterRegistry meterRegistry,
+                     PrimaryReads primaryReads) {
+        this.primaryReads = primaryReads;
+        this.usersById = newCache(maximumSize, ttl);
+        this.idsByEmail = newCache(maximumSize, ttl);
+        this.idsByCpf = newCache(maximumSize, ttl);
+        CaffeineCacheMetrics.monitor(meterRegistry, usersById, "users.by-id");
+        CaffeineCacheMetrics.monitor(meterRegistry, idsByEmail, "users.by-email");
+        CaffeineCacheMetrics.monitor(meterRegistry, idsByCpf, "users.by-cpf");
+    }
+
+    public Optional<UserSummary> findById(UUID id, Function<UUID, Optional<UserSummary>> loader) {
+        UserSummary cached = usersById.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return load(id, loader);
+    }
+
+    public Optional<UserSummary> findByEmail(String email, Function<String, Optional<UserSummary>> loader) {
+        return findByNaturalKey(idsByEmail, email, UserSummary::email, loader);
+    }
+
+    public Optional<UserSummary> findByCpf(String cpf, Function<String, Optional<UserSummary>> loader) {
+        return findByNaturalKey(idsByCpf, cpf, UserSummary::cpf, loader);
+    }
+
+    public void put(UserSummary user) {
+        usersById.put(user.id(), user);
+        idsByEmail.put(user.email(), user.id());
+        idsByCpf.put(user.cpf(), user.id());
+    }
+
+    public void evict(UUID id) {
+        UserSummary removed = usersById.asMap().remove(id);
+        if (removed != null) {
+            idsByEmail.asMap().remove(removed.email(), id);
+            idsByCpf.asMap().remove(removed.cpf(), id);
+        }
+    }
+
+    public void evictIfStale(UUID id, long currentVersion) {
+        UserSummary cached = usersById.getIfPresent(id);
+        if (cached != null && cached.version() != currentVersion) {
+            evict(id);
+        }
+    }
+
+    private Optional<UserSummary> findByNaturalKey(Cache<String, UUID> index, String key,
+                                                   Function<UserSummary, String> keyOf,
+                                                   Function<String, Optional<UserSummary>> loader) {
+        UUID id = index.getIfPresent(key);
+        if (id != null) {
+            UserSummary cached = usersById.getIfPresent(id);
+            if (cached != null && key.equals(keyOf.apply(cached))) {
+                return Optional.of(cached);
+            }
+        }
+        return load(key, loader);
+    }
+
+    private <K> Optional<UserSummary> load(K key, Function<K, Optional<UserSummary>> loader) {
+        Optional<UserSummary> loaded = primaryReads.read(() -> loader.apply(key));
+        loaded.ifPresent(this::put);
+        return loaded;
+    }
+
+    private static <K, V> Cache<K, V> newCache(long maximumSize, Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+}
@@ -0,0 +1,60 @@
+package com.neoapp.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.neoapp.entity.User;
+import com.neoapp.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+public class UserCountEstimator {
+    private static final Logger logger = LoggerFactory.getLogger(UserCountEstimator.class);
+
+    private static final String PLANNER_ESTIMATE_SQL =
+            "SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass('users')";
+
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache<String, Long> cachedCounts;
+
+    public UserCountEstimator(UserRepository userRepository,
+                              JdbcTemplate jdbcTemplate,
+                              @Value("${users.count-cache.maximum-size:1000}") long maximumSize,
+                              @Value("${users.count-cache.ttl:60s}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.cachedCounts = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public long estimate(String key, Specification<User> filter) {
+        if (filter == null) {
+            Long plannerEstimate = plannerEstimate();
+            if (plannerEstimate != null) {
+                return plannerEstimate;
+            }
+        }
+
+        return cachedCounts.get(key, ignored -> filter == null ? userRepository.count() : userRepository.count(filter));
+    }
+
+    private Long plannerEstimate() {
+        try {
+            Long estimate = jdbcTemplate.queryForObject(PLANNER_ESTIMATE_SQL, Long.class);
+            return estimate != null && estimate >= 0 ? estimate : null;
+        } catch (DataAccessException dataAccessException) {
+            logger.debug("Planner statistics unavailable: {}", dataAccessException.getMessage());
+            return null;
+        }
+    }
+}
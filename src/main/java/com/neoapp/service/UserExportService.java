@@ -0,0 +1,103 @@
+package com.neoapp.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neoapp.dto.response.DataUserDTO;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.UUID;
+
+@Service
+public class UserExportService {
+    private static final Logger logger = LoggerFactory.getLogger(UserExportService.class);
+
+    private static final String EXPORT_SQL =
+            "SELECT id, name, last_name, cpf, email, date_of_birth FROM users";
+    private static final String CSV_HEADER = CsvFormat.formatLine("id", "name", "lastName", "cpf", "email", "age");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    public UserExportService(DataSource dataSource,
+                             PlatformTransactionManager transactionManager,
+                             ObjectMapper objectMapper,
+                             @Value("${users.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.objectMapper = objectMapper;
+    }
+
+    public void exportUsers(String format, HttpServletResponse response) throws IOException {
+        boolean csv = "csv".equalsIgnoreCase(format);
+        if (!csv && !"ndjson".equalsIgnoreCase(format)) {
+            response.sendError(400, "Format must be ndjson or csv");
+            return;
+        }
+
+        response.setContentType(csv ? "text/csv" : MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"users." + (csv ? "csv" : "ndjson") + "\"");
+
+        OutputStream output = response.getOutputStream();
+        if (csv) {
+            output.write(CSV_HEADER.getBytes(StandardCharsets.UTF_8));
+        }
+
+        long[] exported = {0};
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(EXPORT_SQL, resultSet -> {
+                DataUserDTO user = toDataUser(resultSet);
+                try {
+                    if (csv) {
+                        output.write(CsvFormat.formatLine(user.id(), user.name(), user.lastName(), user.cpf(),
+                                user.email(), user.age()).getBytes(StandardCharsets.UTF_8));
+                    } else {
+                        output.write(objectMapper.writeValueAsBytes(user));
+                        output.write('\n');
+                    }
+                } catch (IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+                exported[0]++;
+            }));
+        } catch (UncheckedIOException exception) {
+            logger.warn("User export aborted after {} rows: {}", exported[0], exception.getMessage());
+            return;
+        }
+
+        output.flush();
+        logger.info("Exported {} users as {}", exported[0], csv ? "csv" : "ndjson");
+    }
+
+    private static DataUserDTO toDataUser(ResultSet resultSet) throws SQLException {
+        LocalDate dateOfBirth = resultSet.getObject("date_of_birth", LocalDate.class);
+        return new DataUserDTO(
+                resultSet.getObject("id", UUID.class),
+                resultSet.getString("name"),
+                resultSet.getString("last_name"),
+                resultSet.getString("cpf"),
+                resultSet.getString("email"),
+                dateOfBirth != null ? Period.between(dateOfBirth, LocalDate.now()).getYears() : null);
+    }
+}
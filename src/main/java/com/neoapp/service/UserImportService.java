@@ -0,0 +1,324 @@
+package com.neoapp.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neoapp.dto.request.RegisterUserDTO;
+import com.neoapp.dto.response.UserImportResultDTO;
+import com.neoapp.entity.User;
+import com.neoapp.security.PasswordHashingBusyException;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+@Service
+public class UserImportService implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(UserImportService.class);
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+    private static final DateTimeFormatter CSV_DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final int RETRY_AFTER_SECONDS = 30;
+    private static final long HASHING_BUSY_BACKOFF_MILLIS = 50;
+
+    private static final String INSERT_SQL = "INSERT INTO users " +
+            "(id, name, last_name, cpf, date_of_birth, email, password, name_search, last_name_search) " +
+            "SELECT * FROM unnest(?::uuid[], ?::varchar[], ?::varchar[], ?::varchar[], ?::date[], " +
+            "?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[]) " +
+            "ON CONFLICT DO NOTHING RETURNING id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ExecutorService executor;
+    private final int batchSize;
+    private final Semaphore running = new Semaphore(1);
+
+    public UserImportService(JdbcTemplate jdbcTemplate,
+                             PasswordEncoder passwordEncoder,
+                             ObjectMapper objectMapper,
+                             Validator validator,
+                             @Value("${users.import.threads:0}") int threads,
+                             @Value("${users.import.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 4);
+        this.executor = Executors.newFixedThreadPool(poolSize, new CustomizableThreadFactory("user-import-"));
+        this.batchSize = batchSize;
+    }
+
+    public void importUsers(InputStream input, MediaType contentType, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        OutputStream output = response.getOutputStream();
+
+        if (!running.tryAcquire()) {
+            response.setStatus(503);
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(RETRY_AFTER_SECONDS));
+            write(output, UserImportResultDTO.error(0, null, "Another import is already running"));
+            return;
+        }
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            boolean csv = contentType != null && contentType.isCompatibleWith(TEXT_CSV);
+            Function<String, RegisterUserDTO> parser = csv ? csvParser(reader.readLine()) : this::parseJson;
+            long lineNumber = csv ? 1 : 0;
+            int imported = 0;
+            int failed = 0;
+
+            List<ImportRow> batch = new ArrayList<>(batchSize);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                batch.add(new ImportRow(lineNumber, line));
+                if (batch.size() == batchSize) {
+                    int created = importBatch(batch, parser, output);
+                    imported += created;
+                    failed += batch.size() - created;
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                int created = importBatch(batch, parser, output);
+                imported += created;
+                failed += batch.size() - created;
+            }
+
+            logger.info("User import finished: {} imported, {} failed", imported, failed);
+        } finally {
+            running.release();
+        }
+    }
+
+    private int importBatch(List<ImportRow> batch, Function<String, RegisterUserDTO> parser, OutputStream output)
+            throws IOException {
+        List<CompletableFuture<PreparedRow>> futures = batch.stream()
+                .map(row -> CompletableFuture.supplyAsync(() -> prepare(row, parser), executor))
+                .toList();
+        List<PreparedRow> rows = futures.stream().map(CompletableFuture::join).toList();
+
+        List<User> users = rows.stream()
+                .filter(row -> row.user() != null)
+                .map(PreparedRow::user)
+                .toList();
+
+        Set<UUID> insertedIds;
+        String batchError = null;
+        try {
+            insertedIds = insert(users);
+        } catch (Exception exception) {
+            logger.error("Could not insert import batch: ", exception);
+            insertedIds = Set.of();
+            batchError = "Could not insert user: " + exception.getMessage();
+        }
+
+        int created = 0;
+        for (PreparedRow row : rows) {
+            UserImportResultDTO result;
+            if (row.user() == null) {
+                result = UserImportResultDTO.error(row.line(), row.email(), row.error());
+            } else if (insertedIds.contains(row.user().getId())) {
+                result = UserImportResultDTO.success(row.line(), row.user().getId(), row.email());
+                created++;
+            } else if (batchError != null) {
+                result = UserImportResultDTO.error(row.line(), row.email(), batchError);
+            } else {
+                result = UserImportResultDTO.error(row.line(), row.email(), "Email or CPF already registered");
+            }
+            write(output, result);
+        }
+        output.flush();
+        return created;
+    }
+
+    private PreparedRow prepare(ImportRow row, Function<String, RegisterUserDTO> parser) {
+        RegisterUserDTO dto;
+        try {
+            dto = parser.apply(row.content());
+        } catch (IllegalArgumentException illegalArgumentException) {
+            return new PreparedRow(row.line(), null, null, illegalArgumentException.getMessage());
+        }
+        if (dto == null) {
+            return new PreparedRow(row.line(), null, null, "Invalid JSON row");
+        }
+
+        String email = dto.email() != null ? dto.email().trim().toLowerCase() : null;
+        String error = validate(dto);
+        if (error != null) {
+            return new PreparedRow(row.line(), email, null, error);
+        }
+
+        User user = new User(
+                UserService.capitalizeFirstLetters(dto.name()),
+                UserService.capitalizeFirstLetters(dto.lastName()),
+                dto.cpf(),
+                dto.dateOfBirth(),
+                email,
+                encodePassword(dto.password()));
+        user.generateId();
+        return new PreparedRow(row.line(), email, user, null);
+    }
+
+    private String encodePassword(String password) {
+        while (true) {
+            try {
+                return passwordEncoder.encode(password);
+            } catch (PasswordHashingBusyException passwordHashingBusyException) {
+                try {
+                    Thread.sleep(HASHING_BUSY_BACKOFF_MILLIS);
+                } catch (InterruptedException interruptedException) {
+                    Thread.currentThread().interrupt();
+                    throw passwordHashingBusyException;
+                }
+            }
+        }
+    }
+
+    private String validate(RegisterUserDTO dto) {
+        return validator.validate(dto).stream()
+                .min(Comparator.comparing((ConstraintViolation<RegisterUserDTO> violation) -> violation.getPropertyPath().toString())
+                        .thenComparing(ConstraintViolation::getMessage))
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .orElse(null);
+    }
+
+    private Set<UUID> insert(List<User> users) {
+        Set<UUID> insertedIds = new HashSet<>();
+        if (users.isEmpty()) {
+            return insertedIds;
+        }
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT_SQL);
+            statement.setArray(1, array(connection, users, user -> user.getId().toString()));
+            statement.setArray(2, array(connection, users, User::getName));
+            statement.setArray(3, array(connection, users, User::getLastName));
+            statement.setArray(4, array(connection, users, User::getCpf));
+            statement.setArray(5, array(connection, users, user -> user.getDateOfBirth().toString()));
+            statement.setArray(6, array(connection, users, User::getEmail));
+            statement.setArray(7, array(connection, users, User::getPassword));
+            statement.setArray(8, array(connection, users, User::getNameSearch));
+            statement.setArray(9, array(connection, users, User::getLastNameSearch));
+            return statement;
+        }, resultSet -> {
+            insertedIds.add(resultSet.getObject(1, UUID.class));
+        });
+        return insertedIds;
+    }
+
+    private static Array array(Connection connection, List<User> users, Function<User, String> column)
+            throws SQLException {
+        return connection.createArrayOf("varchar", users.stream().map(column).toArray());
+    }
+
+    private RegisterUserDTO parseJson(String line) {
+        try {
+            return objectMapper.readValue(line, RegisterUserDTO.class);
+        } catch (JsonProcessingException exception) {
+            throw new IllegalArgumentException("Invalid JSON: " + exception.getOriginalMessage());
+        }
+    }
+
+    private static Function<String, RegisterUserDTO> csvParser(String header) {
+        if (header == null) {
+            return line -> {
+                throw new IllegalArgumentException("Missing CSV header");
+            };
+        }
+
+        List<String> columns = CsvFormat.parseLine(header).stream()
+                .map(column -> column.trim().toLowerCase(Locale.ROOT))
+                .toList();
+        int name = columns.indexOf("name");
+        int lastName = columns.indexOf("lastname");
+        int cpf = columns.indexOf("cpf");
+        int dateOfBirth = columns.indexOf("dateofbirth");
+        int email = columns.indexOf("email");
+        int password = columns.indexOf("password");
+
+        return line -> {
+            List<String> values = CsvFormat.parseLine(line);
+            if (values.size() != columns.size()) {
+                throw new IllegalArgumentException(
+                        "Expected " + columns.size() + " columns but found " + values.size());
+            }
+            return new RegisterUserDTO(
+                    column(values, name),
+                    column(values, lastName),
+                    column(values, cpf),
+                    parseDate(column(values, dateOfBirth)),
+                    column(values, email),
+                    column(values, password));
+        };
+    }
+
+    private static String column(List<String> values, int index) {
+        return index >= 0 ? values.get(index) : null;
+    }
+
+    private static LocalDate parseDate(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value.trim(), CSV_DATE_FORMAT);
+        } catch (DateTimeParseException exception) {
+            throw new IllegalArgumentException("Invalid date of birth, expected dd/MM/yyyy");
+        }
+    }
+
+    private void write(OutputStream output, UserImportResultDTO result) throws IOException {
+        output.write(objectMapper.writeValueAsBytes(result));
+        output.write('\n');
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private record ImportRow(long line, String content) {
+    }
+
+    private record PreparedRow(long line, String email, User user, String error) {
+    }
+}
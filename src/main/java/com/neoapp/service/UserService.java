@@ -1,49 +1,119 @@
 package com.neoapp.service;
 
+import com.neoapp.config.ReadYourWrites;
 import com.neoapp.dto.request.LoginRequestDTO;
+import com.neoapp.dto.request.PageQueryDTO;
 import com.neoapp.dto.request.RegisterUserDTO;
 import com.neoapp.dto.request.UpdateRequestUserDTO;
 import com.neoapp.dto.response.*;
+import com.neoapp.entity.SearchText;
 import com.neoapp.entity.User;
+import com.neoapp.repository.KeysetCursor;
 import com.neoapp.repository.UserRepository;
+import com.neoapp.repository.UserSpecifications;
+import com.neoapp.repository.UserSummary;
+import com.neoapp.security.PasswordHashingBusyException;
+import com.neoapp.security.PrincipalCache;
 import com.neoapp.security.TokenService;
-import jakarta.transaction.Transactional;
+import com.neoapp.validation.Cpf;
+import com.neoapp.validation.EmailAddress;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.Period;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.regex.Pattern;
+import java.util.function.Function;
 
 @Service
 public class UserService {
     private static final Logger logger = LoggerFactory.getLogger(UserService.class);
 
-    private static final Pattern EMAIL_PATTERN = Pattern.compile(
-            "^[a-zA-Z0-9.!#$%&'*+/=?^_`{|}~-]+@[a-zA-Z0-9](?:[a-zA-Z0-9-]{0,61}[a-zA-Z0-9])?(?:\\.[a-zA-Z0-9](?:[a-zA-Z0-9-]{0,61}[a-zA-Z0-9])?)*$"
-    );
+    private static final String EMAIL_UNIQUE_CONSTRAINT = "uk_users_email";
+    private static final String CPF_UNIQUE_CONSTRAINT = "uk_users_cpf";
+    private static final int ETAG_DIGEST_BYTES = 16;
 
     private final UserRepository userRepository;
     private final TokenService tokenService;
     private final PasswordEncoder passwordEncoder;
-
-    public UserService(UserRepository userRepository, TokenService tokenService, PasswordEncoder passwordEncoder) {
+    private final PrincipalCache principalCache;
+    private final UserCountEstimator userCountEstimator;
+    private final UserCache userCache;
+    private final ReadYourWrites readYourWrites;
+
+    public UserService(UserRepository userRepository, TokenService tokenService, PasswordEncoder passwordEncoder,
+                       PrincipalCache principalCache, UserCountEstimator userCountEstimator, UserCache userCache,
+                       ReadYourWrites readYourWrites) {
         this.userRepository = userRepository;
         this.tokenService = tokenService;
         this.passwordEncoder = passwordEncoder;
+        this.principalCache = principalCache;
+        this.userCountEstimator = userCountEstimator;
+        this.userCache = userCache;
+        this.readYourWrites = readYourWrites;
     }
 
+    @Transactional(readOnly = true)
     public ResponseEntity<PaginatedResponseDTO<DataUserDTO>> listUsersPaginated(int page, int size, String sortBy, String sortDirection) {
+        return listUsersPaginated(new PageQueryDTO(page, size, sortBy, sortDirection, null, null));
+    }
+
+    @Transactional(readOnly = true)
+    public ResponseEntity<PaginatedResponseDTO<DataUserDTO>> listUsersPaginated(PageQueryDTO query, String ifNoneMatch) {
+        String etag = listEtag(query);
+        if (etag != null && etagMatches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        ResponseEntity<PaginatedResponseDTO<DataUserDTO>> response = listUsersPaginated(query);
+        if (etag == null || response.getStatusCode() != HttpStatus.OK) {
+            return response;
+        }
+        return ResponseEntity.ok().eTag(etag).body(response.getBody());
+    }
+
+    @Transactional(readOnly = true)
+    public ResponseEntity<PaginatedResponseDTO<DataUserDTO>> listUsersPaginated(PageQueryDTO query) {
         try {
+            String queryError = validatePageQuery(query);
+            if (queryError != null) {
+                return ResponseEntity.badRequest()
+                        .body(PaginatedResponseDTO.error(queryError));
+            }
+
+            if (query.cursor() != null) {
+                return scrollUsers(ageFilter(query), query, "name", "Users retrieved successfully", "No users found");
+            }
+
+            int page = query.page();
+            int size = query.size();
+            String sortBy = query.sortBy();
+            String sortDirection = query.sortDirection();
+            CountStrategy countStrategy = CountStrategy.from(query.count());
+
             if (page < 0) page = 0;
             if (size <= 0 || size > 100) size = 10;
             if (sortBy == null || sortBy.isEmpty()) sortBy = "name";
@@ -53,23 +123,17 @@ public class UserService {
                 direction = Sort.Direction.DESC;
             }
 
-            Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
-            Page<User> usersPage = userRepository.findAll(pageable);
+            Pageable pageable = PageRequest.of(page, size, toSort(sortBy, direction));
+            Slice<UserSummary> usersPage = fetchUsers(pageable, countStrategy, null, ageFilter(query),
+                    "all" + ageKey(query), userRepository::findAllSummaries);
 
             if (usersPage.isEmpty()) {
                 return ResponseEntity.ok(PaginatedResponseDTO.error("No users found"));
             }
 
-            Page<DataUserDTO> userDTOsPage = usersPage.map(user -> new DataUserDTO(
-                    user.getId(),
-                    user.getName(),
-                    user.getLastName(),
-                    user.getCpf(),
-                    user.getEmail(),
-                    calculateAge(user)
-            ));
+            Slice<DataUserDTO> userDTOsPage = usersPage.map(this::createUserData);
 
-            return ResponseEntity.ok(PaginatedResponseDTO.success("Users retrieved successfully", userDTOsPage));
+            return ResponseEntity.ok(toPaginatedResponse("Users retrieved successfully", userDTOsPage, countStrategy));
 
         } catch (Exception exception) {
             logger.error("Error listing users with pagination: ", exception);
@@ -78,9 +142,26 @@ public class UserService {
         }
     }
 
+    @Transactional(readOnly = true)
+    public ResponseEntity<ResponseUserDTO> findUserById(UUID id, String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            try {
+                Optional<Long> version = userRepository.findVersionById(id);
+                if (version.isPresent() && etagMatches(ifNoneMatch, userEtag(id, version.get()))) {
+                    return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(userEtag(id, version.get())).build();
+                }
+                version.ifPresent(currentVersion -> userCache.evictIfStale(id, currentVersion));
+            } catch (Exception exception) {
+                logger.warn("Could not check user version for id {}: {}", id, exception.getMessage());
+            }
+        }
+        return findUserById(id);
+    }
+
+    @Transactional(readOnly = true)
     public ResponseEntity<ResponseUserDTO> findUserById(UUID id) {
         try {
-            Optional<User> optionalUser = userRepository.findById(id);
+            Optional<UserSummary> optionalUser = userCache.findById(id, userRepository::findSummaryById);
 
             if (optionalUser.isEmpty()) {
                 logger.warn("User not found with id: {}", id);
@@ -88,10 +169,12 @@ public class UserService {
                         .body(ResponseUserDTO.notFound("User not found with the provided ID"));
             }
 
-            User user = optionalUser.get();
+            UserSummary user = optionalUser.get();
             DataUserDTO userDTO = createUserData(user);
 
-            return ResponseEntity.ok(ResponseUserDTO.success("User found successfully", userDTO));
+            return ResponseEntity.ok()
+                    .eTag(userEtag(user.id(), user.version()))
+                    .body(ResponseUserDTO.success("User found successfully", userDTO));
 
         } catch (Exception exception) {
             logger.error("Error finding user by ID: ", exception);
@@ -100,15 +183,16 @@ public class UserService {
         }
     }
 
+    @Transactional(readOnly = true)
     public ResponseEntity<ResponseUserDTO> findUserByCpf(String cpf) {
         try {
-            if (cpf == null || !cpf.matches("\\d{11}")) {
+            if (!Cpf.isWellFormed(cpf)) {
                 logger.warn("Invalid CPF format received: {}", cpf);
                 return ResponseEntity.badRequest()
                         .body(ResponseUserDTO.error("Invalid CPF format. Use only numbers, e.g. 00000000000"));
             }
 
-            Optional<User> optionalUser = userRepository.findByCpf(cpf);
+            Optional<UserSummary> optionalUser = userCache.findByCpf(cpf, userRepository::findSummaryByCpf);
 
             if (optionalUser.isEmpty()) {
                 logger.warn("User not found with cpf: {}", cpf);
@@ -116,8 +200,7 @@ public class UserService {
                         .body(ResponseUserDTO.notFound("User not found with the provided cpf"));
             }
 
-            User user = optionalUser.get();
-            DataUserDTO userDTO = createUserData(user);
+            DataUserDTO userDTO = createUserData(optionalUser.get());
 
             return ResponseEntity.ok(ResponseUserDTO.success("User found successfully", userDTO));
 
@@ -128,16 +211,17 @@ public class UserService {
         }
     }
 
+    @Transactional(readOnly = true)
     public ResponseEntity<ResponseUserDTO> findUserByEmail(String email) {
         try {
             String adjustedEmail = email.trim().toLowerCase();
 
-            if (!EMAIL_PATTERN.matcher(adjustedEmail).matches()) {
+            if (!EmailAddress.isValid(adjustedEmail)) {
                 return ResponseEntity.badRequest()
                         .body(ResponseUserDTO.notFound("Invalid email format"));
             }
 
-            Optional<User> optionalUser = userRepository.findByEmail(adjustedEmail);
+            Optional<UserSummary> optionalUser = userCache.findByEmail(adjustedEmail, userRepository::findSummaryByEmail);
 
             if (optionalUser.isEmpty()) {
                 logger.warn("User not found with email: {}", adjustedEmail);
@@ -145,8 +229,7 @@ public class UserService {
                         .body(ResponseUserDTO.notFound("User not found with the provided email"));
             }
 
-            User user = optionalUser.get();
-            DataUserDTO userDTO = createUserData(user);
+            DataUserDTO userDTO = createUserData(optionalUser.get());
 
             return ResponseEntity.ok(ResponseUserDTO.success("User found successfully", userDTO));
 
@@ -157,13 +240,37 @@ public class UserService {
         }
     }
 
+    @Transactional(readOnly = true)
     public ResponseEntity<PaginatedResponseDTO<DataUserDTO>> searchUsersByName(String name, int page, int size, String sortBy, String sortDirection) {
+        return searchUsersByName(name, new PageQueryDTO(page, size, sortBy, sortDirection, null, null));
+    }
+
+    @Transactional(readOnly = true)
+    public ResponseEntity<PaginatedResponseDTO<DataUserDTO>> searchUsersByName(String name, PageQueryDTO query) {
         try {
             if (name == null || name.trim().isEmpty()) {
                 return ResponseEntity.badRequest()
                         .body(PaginatedResponseDTO.error("Search term is required"));
             }
 
+            String queryError = validatePageQuery(query);
+            if (queryError != null) {
+                return ResponseEntity.badRequest()
+                        .body(PaginatedResponseDTO.error(queryError));
+            }
+
+            if (query.cursor() != null) {
+                return scrollUsers(UserSpecifications.allOf(UserSpecifications.nameContains(name.trim()), ageFilter(query)), query, "name",
+                        String.format("Users found containing '%s'", name),
+                        "No users found containing the provided name");
+            }
+
+            int page = query.page();
+            int size = query.size();
+            String sortBy = query.sortBy();
+            String sortDirection = query.sortDirection();
+            CountStrategy countStrategy = CountStrategy.from(query.count());
+
             if (page < 0) page = 0;
             if (size <= 0 || size > 100) size = 10;
             if (sortBy == null || sortBy.isEmpty()) sortBy = "name";
@@ -173,28 +280,23 @@ public class UserService {
                 direction = Sort.Direction.DESC;
             }
 
-            Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
+            Pageable pageable = PageRequest.of(page, size, toSort(sortBy, direction));
 
-            Page<User> usersPage = userRepository.findByNameContainingIgnoreCase(name.trim(), pageable);
+            String term = name.trim();
+            Slice<UserSummary> usersPage = fetchUsers(pageable, countStrategy, UserSpecifications.nameContains(term), ageFilter(query),
+                    "name:" + SearchText.fold(term) + ageKey(query), pageRequest -> userRepository.findByNameContainingIgnoreCase(term, pageRequest));
 
             if (usersPage.isEmpty()) {
                 logger.info("No users found containing name: {}", name);
                 return ResponseEntity.ok(PaginatedResponseDTO.error("No users found containing the provided name"));
             }
 
-            Page<DataUserDTO> userDTOsPage = usersPage.map(user -> new DataUserDTO(
-                    user.getId(),
-                    user.getName(),
-                    user.getLastName(),
-                    user.getCpf(),
-                    user.getEmail(),
-                    calculateAge(user)
-            ));
+            Slice<DataUserDTO> userDTOsPage = usersPage.map(this::createUserData);
 
-            logger.info("Found {} users containing name: {}", usersPage.getTotalElements(), name);
-            return ResponseEntity.ok(PaginatedResponseDTO.success(
-                    String.format("Found %d users containing '%s'", usersPage.getTotalElements(), name),
-                    userDTOsPage));
+            logger.info("Found {} users containing name: {}", countLabel(usersPage, countStrategy), name);
+            return ResponseEntity.ok(toPaginatedResponse(
+                    String.format("Found %s users containing '%s'", countLabel(usersPage, countStrategy), name),
+                    userDTOsPage, countStrategy));
 
         } catch (Exception exception) {
             logger.error("Error searching users by name: ", exception);
@@ -203,13 +305,37 @@ public class UserService {
         }
     }
 
+    @Transactional(readOnly = true)
     public ResponseEntity<PaginatedResponseDTO<DataUserDTO>> searchUsersByLastName(String lastName, int page, int size, String sortBy, String sortDirection) {
+        return searchUsersByLastName(lastName, new PageQueryDTO(page, size, sortBy, sortDirection, null, null));
+    }
+
+    @Transactional(readOnly = true)
+    public ResponseEntity<PaginatedResponseDTO<DataUserDTO>> searchUsersByLastName(String lastName, PageQueryDTO query) {
         try {
             if (lastName == null || lastName.trim().isEmpty()) {
                 return ResponseEntity.badRequest()
                         .body(PaginatedResponseDTO.error("Search term is required"));
             }
 
+            String queryError = validatePageQuery(query);
+            if (queryError != null) {
+                return ResponseEntity.badRequest()
+                        .body(PaginatedResponseDTO.error(queryError));
+            }
+
+            if (query.cursor() != null) {
+                return scrollUsers(UserSpecifications.allOf(UserSpecifications.lastNameContains(lastName.trim()), ageFilter(query)), query, "lastName",
+                        String.format("Users found containing '%s'", lastName),
+                        "No users found containing the provided last name");
+            }
+
+            int page = query.page();
+            int size = query.size();
+            String sortBy = query.sortBy();
+            String sortDirection = query.sortDirection();
+            CountStrategy countStrategy = CountStrategy.from(query.count());
+
             if (page < 0) page = 0;
             if (size <= 0 || size > 100) size = 10;
             if (sortBy == null || sortBy.isEmpty()) sortBy = "lastName";
@@ -219,28 +345,23 @@ public class UserService {
                 direction = Sort.Direction.DESC;
             }
 
-            Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
+            Pageable pageable = PageRequest.of(page, size, toSort(sortBy, direction));
 
-            Page<User> usersPage = userRepository.findByLastNameContainingIgnoreCase(lastName.trim(), pageable);
+            String term = lastName.trim();
+            Slice<UserSummary> usersPage = fetchUsers(pageable, countStrategy, UserSpecifications.lastNameContains(term), ageFilter(query),
+                    "lastName:" + SearchText.fold(term) + ageKey(query), pageRequest -> userRepository.findByLastNameContainingIgnoreCase(term, pageRequest));
 
             if (usersPage.isEmpty()) {
                 logger.info("No users found containing last name: {}", lastName);
                 return ResponseEntity.ok(PaginatedResponseDTO.error("No users found containing the provided last name"));
             }
 
-            Page<DataUserDTO> userDTOsPage = usersPage.map(user -> new DataUserDTO(
-                    user.getId(),
-                    user.getName(),
-                    user.getLastName(),
-                    user.getCpf(),
-                    user.getEmail(),
-                    calculateAge(user)
-            ));
+            Slice<DataUserDTO> userDTOsPage = usersPage.map(this::createUserData);
 
-            logger.info("Found {} users containing last name: {}", usersPage.getTotalElements(), lastName);
-            return ResponseEntity.ok(PaginatedResponseDTO.success(
-                    String.format("Found %d users containing '%s'", usersPage.getTotalElements(), lastName),
-                    userDTOsPage));
+            logger.info("Found {} users containing last name: {}", countLabel(usersPage, countStrategy), lastName);
+            return ResponseEntity.ok(toPaginatedResponse(
+                    String.format("Found %s users containing '%s'", countLabel(usersPage, countStrategy), lastName),
+                    userDTOsPage, countStrategy));
 
         } catch (Exception exception) {
             logger.error("Error searching users by last name: ", exception);
@@ -249,13 +370,37 @@ public class UserService {
         }
     }
 
+    @Transactional(readOnly = true)
     public ResponseEntity<PaginatedResponseDTO<DataUserDTO>> searchUsers(String search, int page, int size, String sortBy, String sortDirection) {
+        return searchUsers(search, new PageQueryDTO(page, size, sortBy, sortDirection, null, null));
+    }
+
+    @Transactional(readOnly = true)
+    public ResponseEntity<PaginatedResponseDTO<DataUserDTO>> searchUsers(String search, PageQueryDTO query) {
         try {
             if (search == null || search.trim().isEmpty()) {
                 return ResponseEntity.badRequest()
                         .body(PaginatedResponseDTO.error("Search term is required"));
             }
 
+            String queryError = validatePageQuery(query);
+            if (queryError != null) {
+                return ResponseEntity.badRequest()
+                        .body(PaginatedResponseDTO.error(queryError));
+            }
+
+            if (query.cursor() != null) {
+                return scrollUsers(UserSpecifications.allOf(UserSpecifications.nameOrLastNameContains(search.trim()), ageFilter(query)), query, "name",
+                        String.format("Users found matching '%s'", search),
+                        "No users found with the provided search term");
+            }
+
+            int page = query.page();
+            int size = query.size();
+            String sortBy = query.sortBy();
+            String sortDirection = query.sortDirection();
+            CountStrategy countStrategy = CountStrategy.from(query.count());
+
             if (page < 0) page = 0;
             if (size <= 0 || size > 100) size = 10;
             if (sortBy == null || sortBy.isEmpty()) sortBy = "name";
@@ -265,28 +410,23 @@ public class UserService {
                 direction = Sort.Direction.DESC;
             }
 
-            Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
+            Pageable pageable = PageRequest.of(page, size, toSort(sortBy, direction));
 
-            Page<User> usersPage = userRepository.searchByNameOrLastName(search.trim(), pageable);
+            String term = search.trim();
+            Slice<UserSummary> usersPage = fetchUsers(pageable, countStrategy, UserSpecifications.nameOrLastNameContains(term), ageFilter(query),
+                    "search:" + SearchText.fold(term) + ageKey(query), pageRequest -> userRepository.searchByNameOrLastName(term, pageRequest));
 
             if (usersPage.isEmpty()) {
                 logger.info("No users found with search term: {}", search);
                 return ResponseEntity.ok(PaginatedResponseDTO.error("No users found with the provided search term"));
             }
 
-            Page<DataUserDTO> userDTOsPage = usersPage.map(user -> new DataUserDTO(
-                    user.getId(),
-                    user.getName(),
-                    user.getLastName(),
-                    user.getCpf(),
-                    user.getEmail(),
-                    calculateAge(user)
-            ));
+            Slice<DataUserDTO> userDTOsPage = usersPage.map(this::createUserData);
 
-            logger.info("Found {} users with search term: {}", usersPage.getTotalElements(), search);
-            return ResponseEntity.ok(PaginatedResponseDTO.success(
-                    String.format("Found %d users matching '%s'", usersPage.getTotalElements(), search),
-                    userDTOsPage));
+            logger.info("Found {} users with search term: {}", countLabel(usersPage, countStrategy), search);
+            return ResponseEntity.ok(toPaginatedResponse(
+                    String.format("Found %s users matching '%s'", countLabel(usersPage, countStrategy), search),
+                    userDTOsPage, countStrategy));
 
         } catch (Exception exception) {
             logger.error("Error searching users: ", exception);
@@ -295,18 +435,17 @@ public class UserService {
         }
     }
 
-    @Transactional
     public ResponseEntity<RegisterResponseDTO> register(RegisterUserDTO dto) {
         try {
             String email = dto.email().trim().toLowerCase();
 
-            if (!EMAIL_PATTERN.matcher(email).matches()) {
+            if (!EmailAddress.isValid(email)) {
                 return ResponseEntity.badRequest()
                         .body(RegisterResponseDTO.error("Invalid email format"));
             }
 
             if (userRepository.existsByEmail(email)) {
-                logger.warn("Registration attempt with existing email: {}", email);
+                logger.warn("Registration attempt with existing email: {}", dto.email());
                 return ResponseEntity.badRequest()
                         .body(RegisterResponseDTO.error("Email already registered"));
             }
@@ -325,7 +464,9 @@ public class UserService {
             user.setEmail(email);
             user.setPassword(passwordEncoder.encode(dto.password()));
 
-            User savedUser = userRepository.save(user);
+            User savedUser = userRepository.saveAndFlush(user);
+            userCache.put(UserSummary.from(savedUser));
+            readYourWrites.recordWrite(savedUser.getEmail());
             String token = tokenService.generateToken(savedUser);
 
             DataUserDTO userData = createUserData(savedUser);
@@ -334,6 +475,26 @@ public class UserService {
             return ResponseEntity.status(201)
                     .body(RegisterResponseDTO.success("User registered successfully", token, userData));
 
+        } catch (DataIntegrityViolationException integrityViolation) {
+            String message = integrityViolation.getMostSpecificCause().getMessage();
+            if (message != null && message.contains(EMAIL_UNIQUE_CONSTRAINT)) {
+                logger.warn("Registration attempt with existing email: {}", dto.email());
+                return ResponseEntity.badRequest()
+                        .body(RegisterResponseDTO.error("Email already registered"));
+            }
+            if (message != null && message.contains(CPF_UNIQUE_CONSTRAINT)) {
+                logger.warn("Registration attempt with existing CPF: {}", dto.cpf());
+                return ResponseEntity.badRequest()
+                        .body(RegisterResponseDTO.error("CPF already registered"));
+            }
+            logger.error("Unexpected constraint violation during registration: ", integrityViolation);
+            return ResponseEntity.internalServerError()
+                    .body(RegisterResponseDTO.error("An unexpected error occurred during registration"));
+        } catch (PasswordHashingBusyException busyException) {
+            logger.warn("Registration rejected: {}", busyException.getMessage());
+            return ResponseEntity.status(503)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(PasswordHashingBusyException.RETRY_AFTER_SECONDS))
+                    .body(RegisterResponseDTO.error("Server is busy, please try again shortly"));
         } catch (IllegalArgumentException illegalArgumentException) {
             logger.warn("Registration validation failed: {}", illegalArgumentException.getMessage());
             return ResponseEntity.badRequest()
@@ -359,7 +520,7 @@ public class UserService {
 
             String email = dto.email().trim().toLowerCase();
 
-            if (!EMAIL_PATTERN.matcher(email).matches()) {
+            if (!EmailAddress.isValid(email)) {
                 return ResponseEntity.badRequest()
                         .body(LoginResponseDTO.error("Invalid email format"));
             }
@@ -380,12 +541,21 @@ public class UserService {
                         .body(LoginResponseDTO.error("Invalid email or password"));
             }
 
+            if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+                rehashPassword(user, dto.password());
+            }
+
             String token = tokenService.generateToken(user);
             DataUserDTO userData = createUserData(user);
 
             logger.info("User logged in successfully with email: {}", email);
             return ResponseEntity.ok()
                     .body(LoginResponseDTO.success("Logged in successfully", token, userData));
+        } catch (PasswordHashingBusyException busyException) {
+            logger.warn("Login rejected: {}", busyException.getMessage());
+            return ResponseEntity.status(503)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(PasswordHashingBusyException.RETRY_AFTER_SECONDS))
+                    .body(LoginResponseDTO.error("Server is busy, please try again shortly"));
         } catch (IllegalArgumentException illegalArgumentException) {
             logger.warn("Login validation failed: {}", illegalArgumentException.getMessage());
             return ResponseEntity.badRequest()
@@ -397,7 +567,13 @@ public class UserService {
         }
     }
 
+    @Transactional
     public ResponseEntity<UpdateResponseDTO> updateUser(UUID id, UpdateRequestUserDTO dto) {
+        return updateUser(id, dto, null);
+    }
+
+    @Transactional
+    public ResponseEntity<UpdateResponseDTO> updateUser(UUID id, UpdateRequestUserDTO dto, String ifMatch) {
         try {
             Optional<User> optionalUser = userRepository.findById(id);
 
@@ -409,6 +585,15 @@ public class UserService {
 
             User existingUser = optionalUser.get();
 
+            if (ifMatch != null && !etagMatches(ifMatch, userEtag(id, existingUser.getVersion()))) {
+                logger.warn("Update rejected for user with id {}: If-Match does not match the current version", id);
+                return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+                        .eTag(userEtag(id, existingUser.getVersion()))
+                        .body(UpdateResponseDTO.error("User was modified since it was read"));
+            }
+            String previousEmail = existingUser.getEmail();
+            boolean emailChanged = false;
+
             if (dto.name() != null && !dto.name().trim().isEmpty()) {
                 existingUser.setName(capitalizeFirstLetters(dto.name()));
             }
@@ -420,7 +605,7 @@ public class UserService {
             if (dto.email() != null && !dto.email().isEmpty()) {
                 String newEmail = dto.email().trim().toLowerCase();
 
-                if (!EMAIL_PATTERN.matcher(newEmail).matches()) {
+                if (!EmailAddress.isValid(newEmail)) {
                     return ResponseEntity.badRequest()
                             .body(UpdateResponseDTO.error("Invalid email format"));
                 }
@@ -436,9 +621,16 @@ public class UserService {
                 }
 
                 existingUser.setEmail(newEmail);
+                emailChanged = true;
             }
 
-            User updatedUser = userRepository.save(existingUser);
+            User updatedUser = userRepository.saveAndFlush(existingUser);
+            principalCache.evict(previousEmail);
+            userCache.evict(id);
+            readYourWrites.recordWrite();
+            if (emailChanged) {
+                tokenService.invalidateTokens(id);
+            }
             DataUserDTO updatedUserDTO = new DataUserDTO(
                     updatedUser.getId(),
                     updatedUser.getName(),
@@ -449,13 +641,22 @@ public class UserService {
             );
 
             logger.info("User updated successfully with id: {}", id);
-            return ResponseEntity.ok(UpdateResponseDTO.success("User updated successfully", updatedUserDTO));
-
+            return ResponseEntity.ok()
+                    .eTag(userEtag(updatedUser.getId(), updatedUser.getVersion()))
+                    .body(UpdateResponseDTO.success("User updated successfully", updatedUserDTO));
+
+        } catch (ObjectOptimisticLockingFailureException conflict) {
+            markRollbackOnly();
+            logger.warn("Concurrent update detected for user with id: {}", id);
+            return ResponseEntity.status(ifMatch != null ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT)
+                    .body(UpdateResponseDTO.error("User was modified concurrently, reload it and try again"));
         } catch (IllegalArgumentException illegalArgumentException) {
+            markRollbackOnly();
             logger.warn("Update validation failed: {}", illegalArgumentException.getMessage());
             return ResponseEntity.badRequest()
                     .body(UpdateResponseDTO.error(illegalArgumentException.getMessage()));
         } catch (Exception exception) {
+            markRollbackOnly();
             logger.error("Unexpected error during user update: ", exception);
             return ResponseEntity.internalServerError()
                     .body(UpdateResponseDTO.error("An unexpected error occurred during update"));
@@ -472,16 +673,232 @@ public class UserService {
             }
 
             userRepository.deleteById(id);
+            principalCache.evict(id);
+            userCache.evict(id);
+            readYourWrites.recordWrite();
+            tokenService.revokeTokens(id);
             logger.info("User deleted successfully with id: {}", id);
             return ResponseEntity.ok(DeleteResponseDTO.success("User deleted successfully"));
 
         } catch (Exception exception) {
+            markRollbackOnly();
             logger.error("Unexpected error during user deletion: ", exception);
             return ResponseEntity.internalServerError()
                     .body(DeleteResponseDTO.error("An unexpected error occurred during deletion"));
         }
     }
 
+    private Slice<UserSummary> fetchUsers(Pageable pageable, CountStrategy countStrategy, Specification<User> filter,
+                                          Specification<User> ageFilter, String countKey,
+                                          Function<Pageable, Page<UserSummary>> exactQuery) {
+        Specification<User> combinedFilter = UserSpecifications.allOf(filter, ageFilter);
+        return switch (countStrategy) {
+            case EXACT -> {
+                if (ageFilter == null) {
+                    yield exactQuery.apply(pageable);
+                }
+                Slice<UserSummary> slice = userRepository.findSlice(combinedFilter, pageable);
+                yield new PageImpl<>(slice.getContent(), pageable, userRepository.count(combinedFilter));
+            }
+            case NONE -> userRepository.findSlice(combinedFilter, pageable);
+            case ESTIMATED -> {
+                Slice<UserSummary> slice = userRepository.findSlice(combinedFilter, pageable);
+                long seen = pageable.getOffset() + slice.getNumberOfElements();
+                long total = slice.hasNext()
+                        ? Math.max(userCountEstimator.estimate(countKey, combinedFilter), seen + 1)
+                        : seen;
+                yield new PageImpl<>(slice.getContent(), pageable, total);
+            }
+        };
+    }
+
+    private String listEtag(PageQueryDTO query) {
+        try {
+            long tableVersion = userRepository.findTableVersion();
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest((tableVersion + "|" + query + "|" + LocalDate.now()).getBytes(StandardCharsets.UTF_8));
+            return "W/\"" + HexFormat.of().formatHex(digest, 0, ETAG_DIGEST_BYTES) + "\"";
+        } catch (Exception exception) {
+            logger.warn("Could not compute user list version: {}", exception.getMessage());
+            return null;
+        }
+    }
+
+    private static String userEtag(UUID id, long version) {
+        return "\"" + id + "-" + version + "-" + LocalDate.now().toEpochDay() + "\"";
+    }
+
+    private static void markRollbackOnly() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+        }
+    }
+
+    private static boolean etagMatches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        String opaqueTag = etag.startsWith("W/") ? etag.substring(2) : etag;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || (tag.startsWith("W/") ? tag.substring(2) : tag).equals(opaqueTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String validatePageQuery(PageQueryDTO query) {
+        if (!isValidAgeRange(query)) {
+            return "minAge and maxAge must be between 0 and " + PageQueryDTO.MAX_AGE + " and minAge must not exceed maxAge";
+        }
+        if (CountStrategy.from(query.count()) == null) {
+            return "Invalid count strategy. Use exact, estimated or none";
+        }
+        return null;
+    }
+
+    private static boolean isValidAgeRange(PageQueryDTO query) {
+        Integer minAge = query.minAge();
+        Integer maxAge = query.maxAge();
+        if (!isValidAge(minAge) || !isValidAge(maxAge)) {
+            return false;
+        }
+        return minAge == null || maxAge == null || minAge <= maxAge;
+    }
+
+    private static boolean isValidAge(Integer age) {
+        return age == null || (age >= 0 && age <= PageQueryDTO.MAX_AGE);
+    }
+
+    private static Specification<User> ageFilter(PageQueryDTO query) {
+        if (query.minAge() == null && query.maxAge() == null) {
+            return null;
+        }
+
+        LocalDate today = LocalDate.now();
+        LocalDate latestBirth = query.minAge() != null ? today.minusYears(query.minAge()) : null;
+        LocalDate earliestBirth = query.maxAge() != null ? today.minusYears(query.maxAge() + 1L).plusDays(1) : null;
+        return UserSpecifications.bornBetween(earliestBirth, latestBirth);
+    }
+
+    private static String ageKey(PageQueryDTO query) {
+        if (query.minAge() == null && query.maxAge() == null) {
+            return "";
+        }
+        return "|age:" + query.minAge() + "-" + query.maxAge();
+    }
+
+    private static Sort toSort(String sortBy, Sort.Direction direction) {
+        if ("age".equals(sortBy)) {
+            return Sort.by(direction.isAscending() ? Sort.Direction.DESC : Sort.Direction.ASC, "dateOfBirth");
+        }
+        return Sort.by(direction, sortBy);
+    }
+
+    private static <T> PaginatedResponseDTO<T> toPaginatedResponse(String message, Slice<T> slice,
+                                                                   CountStrategy countStrategy) {
+        if (slice instanceof Page<T> page) {
+            return PaginatedResponseDTO.success(message, page, countStrategy.label());
+        }
+        return PaginatedResponseDTO.success(message, slice);
+    }
+
+    private static String countLabel(Slice<?> slice, CountStrategy countStrategy) {
+        return switch (countStrategy) {
+            case EXACT -> String.valueOf(((Page<?>) slice).getTotalElements());
+            case ESTIMATED -> "~" + ((Page<?>) slice).getTotalElements();
+            case NONE -> slice.getNumberOfElements() + (slice.hasNext() ? "+" : "");
+        };
+    }
+
+    private ResponseEntity<PaginatedResponseDTO<DataUserDTO>> scrollUsers(Specification<User> filter, PageQueryDTO query,
+                                                                          String defaultSortBy, String successMessage,
+                                                                          String emptyMessage) {
+        int size = query.size();
+        String sortBy = query.sortBy();
+
+        if (size <= 0 || size > 100) size = 10;
+        if (sortBy == null || sortBy.isEmpty()) sortBy = defaultSortBy;
+
+        Sort.Direction direction = Sort.Direction.ASC;
+        if ("desc".equalsIgnoreCase(query.sortDirection())) {
+            direction = Sort.Direction.DESC;
+        }
+
+        if ("age".equals(sortBy)) {
+            Sort.Order order = toSort(sortBy, direction).iterator().next();
+            sortBy = order.getProperty();
+            direction = order.getDirection();
+        }
+
+        if (!KeysetCursor.SORT_KEYS.contains(sortBy)) {
+            return ResponseEntity.badRequest()
+                    .body(PaginatedResponseDTO.error("Cursor pagination supports sorting by name, lastName, email, cpf, dateOfBirth or age"));
+        }
+
+        KeysetCursor cursor = KeysetCursor.first(sortBy, direction);
+        if (!query.cursor().isEmpty()) {
+            try {
+                cursor = KeysetCursor.decode(query.cursor());
+            } catch (IllegalArgumentException illegalArgumentException) {
+                logger.warn("Invalid cursor received: {}", query.cursor());
+                return ResponseEntity.badRequest()
+                        .body(PaginatedResponseDTO.error("Invalid cursor"));
+            }
+
+            if (!cursor.sortBy().equals(sortBy) || cursor.direction() != direction) {
+                return ResponseEntity.badRequest()
+                        .body(PaginatedResponseDTO.error("Cursor does not match the requested sort"));
+            }
+        }
+
+        List<UserSummary> users = userRepository.findAfter(filter, cursor, size + 1);
+
+        if (users.isEmpty()) {
+            return ResponseEntity.ok(PaginatedResponseDTO.error(emptyMessage));
+        }
+
+        String nextCursor = null;
+        if (users.size() > size) {
+            users = users.subList(0, size);
+            UserSummary last = users.get(size - 1);
+            nextCursor = KeysetCursor.after(sortBy, direction, sortValue(last, sortBy), last.id()).encode();
+        }
+
+        List<DataUserDTO> content = users.stream()
+                .map(this::createUserData)
+                .toList();
+
+        return ResponseEntity.ok(PaginatedResponseDTO.success(successMessage, content, size, !cursor.hasPosition(), nextCursor));
+    }
+
+    private static Comparable<?> sortValue(UserSummary user, String sortBy) {
+        return switch (sortBy) {
+            case "lastName" -> user.lastName();
+            case "email" -> user.email();
+            case "cpf" -> user.cpf();
+            case "dateOfBirth" -> user.dateOfBirth();
+            default -> user.name();
+        };
+    }
+
+    private void rehashPassword(User user, String rawPassword) {
+        try {
+            String previousHash = user.getPassword();
+            String upgradedHash = passwordEncoder.encode(rawPassword);
+            if (userRepository.updatePasswordHash(user.getId(), previousHash, upgradedHash, Instant.now()) == 0) {
+                logger.info("Password hash for user with id {} changed concurrently, skipping upgrade", user.getId());
+                return;
+            }
+            user.setPassword(upgradedHash);
+            userCache.evict(user.getId());
+            logger.info("Password hash upgraded for user with id: {}", user.getId());
+        } catch (Exception exception) {
+            logger.warn("Could not upgrade password hash for user with id {}: {}", user.getId(), exception.getMessage());
+        }
+    }
+
     public static String capitalizeFirstLetters(String input) {
         if (input == null || input.isEmpty()) return input;
 
@@ -509,9 +926,20 @@ public class UserService {
                 calculateAge(user));
     }
 
+    private DataUserDTO createUserData(UserSummary user) {
+        return new DataUserDTO(user.id(),
+                user.name(),
+                user.lastName(),
+                user.cpf(),
+                user.email(),
+                calculateAge(user.dateOfBirth()));
+    }
+
     private int calculateAge(User user) {
-        LocalDate userDateOfBirth = user.getDateOfBirth();
+        return calculateAge(user.getDateOfBirth());
+    }
 
+    public static int calculateAge(LocalDate userDateOfBirth) {
         return Period.between(userDateOfBirth, LocalDate.now()).getYears();
     }
 }
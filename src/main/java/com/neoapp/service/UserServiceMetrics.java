@@ -0,0 +1,41 @@
+package com.neoapp.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+@Order(0)
+public class UserServiceMetrics {
+    private final MeterRegistry meterRegistry;
+
+    public UserServiceMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public org.springframework.http.ResponseEntity com.neoapp.service.UserService.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "500";
+        try {
+            ResponseEntity<?> response = (ResponseEntity<?>) joinPoint.proceed();
+            outcome = outcome(response.getStatusCode().value());
+            return response;
+        } finally {
+            sample.stop(Timer.builder("users.service")
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    private static String outcome(int status) {
+        return status < 400 ? "success" : String.valueOf(status);
+    }
+}
@@ -0,0 +1,60 @@
+package com.neoapp.validation;
+
+public final class Cpf {
+    public static final int LENGTH = 11;
+
+    private Cpf() {
+    }
+
+    public static boolean isWellFormed(CharSequence cpf) {
+        if (cpf == null || cpf.length() != LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < LENGTH; i++) {
+            char digit = cpf.charAt(i);
+            if (digit < '0' || digit > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean isValid(CharSequence cpf) {
+        if (cpf == null || cpf.length() != LENGTH) {
+            return false;
+        }
+
+        int firstSum = 0;
+        int secondSum = 0;
+        boolean repeated = true;
+        char first = cpf.charAt(0);
+        for (int i = 0; i < LENGTH - 2; i++) {
+            char character = cpf.charAt(i);
+            if (character < '0' || character > '9') {
+                return false;
+            }
+            int digit = character - '0';
+            firstSum += digit * (10 - i);
+            secondSum += digit * (11 - i);
+            repeated &= character == first;
+        }
+
+        char firstCheck = cpf.charAt(LENGTH - 2);
+        char secondCheck = cpf.charAt(LENGTH - 1);
+        if (firstCheck < '0' || firstCheck > '9' || secondCheck < '0' || secondCheck > '9') {
+            return false;
+        }
+        if (repeated && firstCheck == first && secondCheck == first) {
+            return false;
+        }
+
+        int expectedFirst = checkDigit(firstSum);
+        secondSum += expectedFirst * 2;
+        return firstCheck - '0' == expectedFirst && secondCheck - '0' == checkDigit(secondSum);
+    }
+
+    private static int checkDigit(int sum) {
+        int remainder = sum * 10 % 11;
+        return remainder == 10 ? 0 : remainder;
+    }
+}
@@ -0,0 +1,79 @@
+package com.neoapp.validation;
+
+public final class EmailAddress {
+    public static final int MAX_LENGTH = 254;
+    public static final int MAX_LOCAL_PART_LENGTH = 64;
+    public static final int MAX_LABEL_LENGTH = 63;
+
+    private static final boolean[] ATEXT = new boolean[128];
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            ATEXT[c] = true;
+            ATEXT[Character.toUpperCase(c)] = true;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            ATEXT[c] = true;
+        }
+        for (char c : "!#$%&'*+-/=?^_`{|}~".toCharArray()) {
+            ATEXT[c] = true;
+        }
+    }
+
+    private EmailAddress() {
+    }
+
+    public static boolean isValid(CharSequence email) {
+        if (email == null) {
+            return false;
+        }
+        int length = email.length();
+        if (length == 0 || length > MAX_LENGTH) {
+            return false;
+        }
+
+        int at = 0;
+        char previous = '.';
+        for (; at < length; at++) {
+            char c = email.charAt(at);
+            if (c == '@') {
+                break;
+            }
+            if (c == '.' ? previous == '.' : !isAtext(c)) {
+                return false;
+            }
+            previous = c;
+        }
+        if (at == 0 || at == length || at > MAX_LOCAL_PART_LENGTH || previous == '.') {
+            return false;
+        }
+
+        int labelLength = 0;
+        previous = '.';
+        for (int i = at + 1; i < length; i++) {
+            char c = email.charAt(i);
+            if (c == '.') {
+                if (labelLength == 0 || previous == '-') {
+                    return false;
+                }
+                labelLength = 0;
+            } else if (isLetterOrDigit(c) || c == '-' && labelLength > 0) {
+                if (++labelLength > MAX_LABEL_LENGTH) {
+                    return false;
+                }
+            } else {
+                return false;
+            }
+            previous = c;
+        }
+        return labelLength > 0 && previous != '-';
+    }
+
+    private static boolean isAtext(char c) {
+        return c < ATEXT.length && ATEXT[c];
+    }
+
+    private static boolean isLetterOrDigit(char c) {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,12 @@
+package com.neoapp.validation;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class ValidCpfValidator implements ConstraintValidator<ValidCpf, CharSequence> {
+
+    @Override
+    public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+        return value == null || Cpf.isValid(value);
+    }
+}
@@ -0,0 +1,12 @@
+package com.neoapp.validation;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class ValidEmailValidator implements ConstraintValidator<ValidEmail, CharSequence> {
+
+    @Override
+    public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+        return value == null || EmailAddress.isValid(value);
+    }
+}
@@ -0,0 +1,9 @@
+CREATE TABLE IF NOT EXISTS users (
+    id            uuid         NOT NULL PRIMARY KEY,
+    name          varchar(255),
+    last_name     varchar(255),
+    cpf           varchar(255),
+    date_of_birth date,
+    email         varchar(255),
+    password      varchar(255)
+);
@@ -0,0 +1,7 @@
+CREATE TABLE IF NOT EXISTS token_epochs (
+    user_id    uuid    NOT NULL PRIMARY KEY,
+    epoch      integer NOT NULL,
+    updated_at timestamp(6) with time zone
+);
+
+CREATE INDEX IF NOT EXISTS idx_token_epochs_updated_at ON token_epochs (updated_at);
@@ -0,0 +1,11 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+ALTER TABLE users ADD COLUMN IF NOT EXISTS name_search varchar(255);
+ALTER TABLE users ADD COLUMN IF NOT EXISTS last_name_search varchar(255);
+
+UPDATE users SET name_search = lower(unaccent(name)) WHERE name_search IS NULL AND name IS NOT NULL;
+UPDATE users SET last_name_search = lower(unaccent(last_name)) WHERE last_name_search IS NULL AND last_name IS NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_users_name_search_trgm ON users USING gin (name_search gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_users_last_name_search_trgm ON users USING gin (last_name_search gin_trgm_ops);
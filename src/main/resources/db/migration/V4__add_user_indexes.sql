@@ -0,0 +1,6 @@
+CREATE UNIQUE INDEX IF NOT EXISTS uk_users_email ON users (email);
+CREATE UNIQUE INDEX IF NOT EXISTS uk_users_cpf ON users (cpf);
+
+CREATE INDEX IF NOT EXISTS idx_users_name_id ON users (name, id);
+CREATE INDEX IF NOT EXISTS idx_users_last_name_id ON users (last_name, id);
+CREATE INDEX IF NOT EXISTS idx_users_date_of_birth_id ON users (date_of_birth, id);
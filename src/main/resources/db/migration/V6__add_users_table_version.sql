@@ -0,0 +1,18 @@
+CREATE TABLE IF NOT EXISTS users_table_version (
+    id      smallint NOT NULL PRIMARY KEY DEFAULT 1 CHECK (id = 1),
+    version bigint   NOT NULL
+);
+
+INSERT INTO users_table_version (id, version) VALUES (1, 0) ON CONFLICT (id) DO NOTHING;
+
+CREATE OR REPLACE FUNCTION bump_users_table_version() RETURNS trigger AS $$
+BEGIN
+    UPDATE users_table_version SET version = version + 1 WHERE id = 1;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_users_table_version ON users;
+CREATE TRIGGER trg_users_table_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON users
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_users_table_version();
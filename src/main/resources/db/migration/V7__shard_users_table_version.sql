@@ -0,0 +1,23 @@
+DROP TRIGGER IF EXISTS trg_users_table_version ON users;
+DROP FUNCTION IF EXISTS bump_users_table_version();
+DROP TABLE IF EXISTS users_table_version;
+
+CREATE TABLE IF NOT EXISTS users_table_version_shards (
+    shard   smallint NOT NULL PRIMARY KEY CHECK (shard >= 0 AND shard < 64),
+    version bigint   NOT NULL
+) WITH (fillfactor = 50);
+
+INSERT INTO users_table_version_shards (shard, version)
+SELECT shard, 0 FROM generate_series(0, 63) AS shard
+ON CONFLICT (shard) DO NOTHING;
+
+CREATE OR REPLACE FUNCTION bump_users_table_version() RETURNS trigger AS $$
+BEGIN
+    UPDATE users_table_version_shards SET version = version + 1 WHERE shard = pg_backend_pid() % 64;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_users_table_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON users
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_users_table_version();
@@ -0,0 +1,61 @@
+package com.neoapp.benchmark;
+
+import com.neoapp.security.RouteClassifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SecurityFilterBenchmark {
+    private static final List<String> PUBLIC_PATTERNS = List.of(
+            "/auth/v1/**",
+            "/actuator/health/**",
+            "/actuator/info",
+            "/actuator/prometheus",
+            "/v3/api-docs/**",
+            "/swagger-ui/**",
+            "/swagger-ui.html",
+            "/swagger-resources/**",
+            "/webjars/**"
+    );
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final RouteClassifier routes = new RouteClassifier(PUBLIC_PATTERNS);
+
+    @Param({"/auth/v1/login", "/swagger-ui/index.html", "/users/search/name", "/users/0190a8c2-7f1e-7c3a-9b1d-4e5f6a7b8c9d"})
+    public String requestURI;
+
+    @Param({"GET", "OPTIONS"})
+    public String method;
+
+    @Benchmark
+    public boolean isPublic() {
+        return routes.isPublic(requestURI);
+    }
+
+    @Benchmark
+    public boolean antPathMatcherBaseline() {
+        return PUBLIC_PATTERNS.stream().anyMatch(pattern -> pathMatcher.match(pattern, requestURI));
+    }
+
+    @Benchmark
+    public RouteClassifier.Route classify() {
+        return routes.classify(method, requestURI);
+    }
+}
@@ -0,0 +1,84 @@
+package com.neoapp.benchmark;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.neoapp.config.PrimaryReads;
+import com.neoapp.config.ReadYourWrites;
+import com.neoapp.entity.User;
+import com.neoapp.repository.TokenEpochRepository;
+import com.neoapp.security.TokenEpochRegistry;
+import com.neoapp.security.TokenService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenServiceBenchmark {
+    private static final String SECRET = "benchmark-secret";
+
+    private TokenService tokenService;
+    private JWTVerifier sharedVerifier;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenService = new TokenService(SECRET, "stateless", 10_000,
+                new TokenEpochRegistry(mock(TokenEpochRepository.class),
+                        new PrimaryReads(new ReadYourWrites(Duration.ofSeconds(5)), mock(PlatformTransactionManager.class))),
+                new SimpleMeterRegistry());
+        sharedVerifier = JWT.require(Algorithm.HMAC256(SECRET)).withIssuer("neoapp").build();
+
+        user = new User("João", "Silva", "12345678901", LocalDate.of(1990, 5, 15),
+                "joao@email.com", "encodedPassword");
+        user.generateId();
+        token = tokenService.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenService.generateToken(user);
+    }
+
+    @Benchmark
+    public String validateToken() {
+        return tokenService.validateToken(token);
+    }
+
+    @Benchmark
+    public DecodedJWT verifyWithVerifierPerRequest() {
+        return JWT.require(Algorithm.HMAC256(SECRET)).withIssuer("neoapp").build().verify(token);
+    }
+
+    @Benchmark
+    public DecodedJWT verifyWithSharedVerifier() {
+        return sharedVerifier.verify(token);
+    }
+
+    @Benchmark
+    public DecodedJWT verifyWithVerifiedTokenCache() {
+        return tokenService.verifyToken(token);
+    }
+}
@@ -0,0 +1,96 @@
+package com.neoapp.benchmark;
+
+import com.neoapp.entity.TimeOrderedUuid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class UserIdInsertBenchmark {
+    private static final int BATCH_SIZE = 1_000;
+
+    @Param({"random", "timeOrdered"})
+    public String idStrategy;
+
+    @Param({"3000000"})
+    public int preloadedRows;
+
+    private Connection connection;
+    private PreparedStatement insert;
+    private Supplier<UUID> ids;
+    private String table;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("benchmark.db.url", "jdbc:postgresql://localhost:5432/neoapp?reWriteBatchedInserts=true"),
+                System.getProperty("benchmark.db.username", "postgres"),
+                System.getProperty("benchmark.db.password", "postgres"));
+        ids = "random".equals(idStrategy) ? UUID::randomUUID : TimeOrderedUuid::next;
+        table = "users_id_benchmark_" + idStrategy.toLowerCase();
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+            statement.execute("CREATE TABLE " + table + " (" +
+                    "id uuid PRIMARY KEY, name varchar(255), email varchar(255))");
+        }
+
+        insert = connection.prepareStatement("INSERT INTO " + table + " (id, name, email) VALUES (?, ?, ?)");
+        for (int loaded = 0; loaded < preloadedRows; loaded += BATCH_SIZE) {
+            insertBatch();
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("VACUUM ANALYZE " + table);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int insertRows() throws SQLException {
+        return insertBatch();
+    }
+
+    private int insertBatch() throws SQLException {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            UUID id = ids.get();
+            insert.setObject(1, id);
+            insert.setString(2, "User " + i);
+            insert.setString(3, id + "@email.com");
+            insert.addBatch();
+        }
+        return insert.executeBatch().length;
+    }
+}
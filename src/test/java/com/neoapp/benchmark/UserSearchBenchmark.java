@@ -0,0 +1,119 @@
+package com.neoapp.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class UserSearchBenchmark {
+    private static final String TABLE = "users_search_benchmark";
+    private static final int ROWS = 1_000_000;
+
+    private static final String LEGACY_QUERY = "SELECT id FROM " + TABLE +
+            " WHERE LOWER(name) LIKE LOWER(CONCAT('%', ?, '%')) OR LOWER(last_name) LIKE LOWER(CONCAT('%', ?, '%'))" +
+            " ORDER BY name LIMIT 10";
+    private static final String FOLDED_QUERY = "SELECT id FROM " + TABLE +
+            " WHERE name_search LIKE CONCAT('%', ?, '%') OR last_name_search LIKE CONCAT('%', ?, '%')" +
+            " ORDER BY name LIMIT 10";
+
+    @Param({"joao", "3fa9c"})
+    public String term;
+
+    private Connection connection;
+    private PreparedStatement legacySearch;
+    private PreparedStatement foldedSearch;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("benchmark.db.url", "jdbc:postgresql://localhost:5432/neoapp"),
+                System.getProperty("benchmark.db.username", "postgres"),
+                System.getProperty("benchmark.db.password", "postgres"));
+        populate();
+        legacySearch = connection.prepareStatement(LEGACY_QUERY);
+        foldedSearch = connection.prepareStatement(FOLDED_QUERY);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public int legacyLowerLikeSearch() throws SQLException {
+        return run(legacySearch);
+    }
+
+    @Benchmark
+    public int foldedTrigramSearch() throws SQLException {
+        return run(foldedSearch);
+    }
+
+    private int run(PreparedStatement statement) throws SQLException {
+        statement.setString(1, term);
+        statement.setString(2, term);
+        int rows = 0;
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    private void populate() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            statement.execute("CREATE EXTENSION IF NOT EXISTS unaccent");
+            statement.execute("CREATE TABLE IF NOT EXISTS " + TABLE + " (" +
+                    "id uuid PRIMARY KEY, name varchar(255), last_name varchar(255), " +
+                    "name_search varchar(255), last_name_search varchar(255))");
+
+            try (ResultSet resultSet = statement.executeQuery("SELECT count(*) FROM " + TABLE)) {
+                resultSet.next();
+                if (resultSet.getLong(1) == ROWS) {
+                    return;
+                }
+            }
+
+            statement.execute("TRUNCATE " + TABLE);
+            statement.execute("INSERT INTO " + TABLE + " (id, name, last_name) " +
+                    "SELECT gen_random_uuid(), " +
+                    "(ARRAY['João','José','Maria','Ana','Antônio','Luíza','Conceição','Sebastião','Márcia','Cláudio'])" +
+                    "[1 + i % 10] || ' ' || substr(md5(i::text), 1, 6), " +
+                    "(ARRAY['Silva','Souza','Conceição','Gonçalves','Araújo','Simões','Magalhães','Ribeiro'])" +
+                    "[1 + i % 8] || ' ' || substr(md5((i * 7)::text), 1, 6) " +
+                    "FROM generate_series(1, " + ROWS + ") AS i");
+            statement.execute("UPDATE " + TABLE + " SET name_search = lower(unaccent(name)), " +
+                    "last_name_search = lower(unaccent(last_name))");
+            statement.execute("CREATE INDEX IF NOT EXISTS idx_" + TABLE + "_name_trgm ON " + TABLE +
+                    " USING gin (name_search gin_trgm_ops)");
+            statement.execute("CREATE INDEX IF NOT EXISTS idx_" + TABLE + "_last_name_trgm ON " + TABLE +
+                    " USING gin (last_name_search gin_trgm_ops)");
+            statement.execute("ANALYZE " + TABLE);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.neoapp.benchmark;
+
+import com.neoapp.service.UserService;
+import com.neoapp.validation.Cpf;
+import com.neoapp.validation.EmailAddress;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserValidationBenchmark {
+    private static final Pattern LEGACY_EMAIL_PATTERN = Pattern.compile(
+            "^[a-zA-Z0-9.!#$%&'*+/=?^_`{|}~-]+@[a-zA-Z0-9](?:[a-zA-Z0-9-]{0,61}[a-zA-Z0-9])?(?:\\.[a-zA-Z0-9](?:[a-zA-Z0-9-]{0,61}[a-zA-Z0-9])?)*$"
+    );
+
+    @State(Scope.Benchmark)
+    public static class NameInput {
+        @Param({"joão da silva", "MARIA  DE LOURDES   SOUZA"})
+        public String name;
+    }
+
+    @State(Scope.Benchmark)
+    public static class EmailInput {
+        @Param({"valid", "invalid", "pathological"})
+        public String kind;
+
+        public String email;
+
+        @Setup
+        public void setUp() {
+            email = switch (kind) {
+                case "valid" -> "joao.silva@email.com";
+                case "invalid" -> "not-an-email";
+                default -> "a".repeat(64) + "@" + ("a".repeat(61) + "-.").repeat(60) + "!";
+            };
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class CpfInput {
+        @Param({"52998224725", "52998224724", "123.456.789-01"})
+        public String cpf;
+    }
+
+    @State(Scope.Benchmark)
+    public static class DateOfBirthInput {
+        public LocalDate dateOfBirth = LocalDate.of(1990, 5, 15);
+    }
+
+    @Benchmark
+    public String capitalizeFirstLetters(NameInput input) {
+        return UserService.capitalizeFirstLetters(input.name);
+    }
+
+    @Benchmark
+    public boolean emailPattern(EmailInput input) {
+        return LEGACY_EMAIL_PATTERN.matcher(input.email).matches();
+    }
+
+    @Benchmark
+    public boolean emailAddress(EmailInput input) {
+        return EmailAddress.isValid(input.email);
+    }
+
+    @Benchmark
+    public boolean cpfMatches(CpfInput input) {
+        return input.cpf.matches("\\d{11}");
+    }
+
+    @Benchmark
+    public boolean cpfIsValid(CpfInput input) {
+        return Cpf.isValid(input.cpf);
+    }
+
+    @Benchmark
+    public int calculateAge(DateOfBirthInput input) {
+        return UserService.calculateAge(input.dateOfBirth);
+    }
+}
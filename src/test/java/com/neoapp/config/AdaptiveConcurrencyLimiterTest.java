@@ -0,0 +1,66 @@
+package com.neoapp.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AdaptiveConcurrencyLimiter Tests")
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.SECONDS.toNanos(10);
+
+    @Test
+    @DisplayName("Should reject requests beyond the current limit")
+    void shouldRejectRequestsBeyondLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 0.2, 2.0);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertEquals(2, limiter.getInFlight());
+
+        limiter.release(FAST, false);
+
+        assertTrue(limiter.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("Should shrink the limit when latency rises under load")
+    void shouldShrinkLimitWhenLatencyRises() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(40, 4, 200, 0.2, 2.0);
+        saturate(limiter, FAST, 50);
+        int steadyLimit = limiter.getLimit();
+
+        saturate(limiter, SLOW, 1);
+
+        assertTrue(limiter.getLimit() < steadyLimit);
+        assertTrue(limiter.getLimit() >= 4);
+    }
+
+    @Test
+    @DisplayName("Should back off when requests fail")
+    void shouldBackOffWhenRequestsFail() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 4, 200, 0.2, 2.0);
+
+        limiter.tryAcquire();
+        limiter.release(FAST, true);
+
+        assertEquals(18, limiter.getLimit());
+    }
+
+    private static void saturate(AdaptiveConcurrencyLimiter limiter, long rttNanos, int rounds) {
+        for (int round = 0; round < rounds; round++) {
+            int acquired = 0;
+            while (limiter.tryAcquire()) {
+                acquired++;
+            }
+            for (int i = 0; i < acquired; i++) {
+                limiter.release(rttNanos, false);
+            }
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.neoapp.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ReadWriteRoutingDataSource Tests")
+class ReadWriteRoutingDataSourceTest {
+
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+    private ReadYourWrites readYourWrites;
+
+    @BeforeEach
+    void setUp() {
+        primary = createDatabase("primary");
+        replica = createDatabase("replica");
+        readYourWrites = new ReadYourWrites(Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary.shutdown();
+        replica.shutdown();
+        SecurityContextHolder.clearContext();
+    }
+
+    private EmbeddedDatabase createDatabase(String node) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE node (name varchar(20))");
+        jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", node);
+        return database;
+    }
+
+    private DataSource routing(DataSource replicaDataSource) {
+        return new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primary, replicaDataSource, readYourWrites, Duration.ofSeconds(30)));
+    }
+
+    private String currentNode(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("SELECT name FROM node", String.class));
+    }
+
+    @Test
+    @DisplayName("Should route read-only transactions to the replica and writes to the primary")
+    void shouldRouteByTransactionReadOnlyFlag() {
+        DataSource dataSource = routing(replica);
+
+        assertEquals("replica", currentNode(dataSource, true));
+        assertEquals("primary", currentNode(dataSource, false));
+        assertEquals("primary", new JdbcTemplate(dataSource).queryForObject("SELECT name FROM node", String.class));
+    }
+
+    @Test
+    @DisplayName("Should read from the primary right after the same user wrote")
+    void shouldReadFromPrimaryInsideReadYourWritesWindow() {
+        DataSource dataSource = routing(replica);
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated("joao@email.com", null, List.of()));
+
+        readYourWrites.recordWrite();
+
+        assertEquals("primary", currentNode(dataSource, true));
+    }
+
+    @Test
+    @DisplayName("Should fill the cache from the primary before a read-only transaction touches the database")
+    void shouldReadCacheFillFromPrimaryBeforeTransactionTouchesDatabase() {
+        DataSource dataSource = routing(replica);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        PrimaryReads primaryReads = new PrimaryReads(readYourWrites, transactionManager);
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        String node = readOnlyTransaction.execute(status -> primaryReads.read(() ->
+                new JdbcTemplate(dataSource).queryForObject("SELECT name FROM node", String.class)));
+
+        assertEquals("primary", node);
+        assertEquals("replica", currentNode(dataSource, true));
+    }
+
+    @Test
+    @DisplayName("Should fill the cache from the primary even when the read-only transaction already reads the replica")
+    void shouldReadCacheFillFromPrimaryWhenTransactionHoldsReplica() {
+        DataSource dataSource = routing(replica);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        PrimaryReads primaryReads = new PrimaryReads(readYourWrites, transactionManager);
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        List<String> nodes = readOnlyTransaction.execute(status -> List.of(
+                jdbcTemplate.queryForObject("SELECT name FROM node", String.class),
+                primaryReads.read(() -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class)),
+                jdbcTemplate.queryForObject("SELECT name FROM node", String.class)));
+
+        assertEquals(List.of("replica", "primary", "replica"), nodes);
+        assertFalse(ReadWriteRoutingDataSource.holdsReplicaConnection());
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary when the replica is unavailable")
+    void shouldFallBackToPrimaryWhenReplicaIsUnavailable() throws SQLException {
+        DataSource unavailableReplica = mock(DataSource.class);
+        when(unavailableReplica.getConnection()).thenThrow(new SQLException("Connection refused"));
+        DataSource dataSource = routing(unavailableReplica);
+
+        assertEquals("primary", currentNode(dataSource, true));
+        assertEquals("primary", currentNode(dataSource, true));
+    }
+}
@@ -0,0 +1,87 @@
+package com.neoapp.dataset;
+
+import com.neoapp.entity.SearchText;
+import com.neoapp.entity.User;
+
+import java.time.LocalDate;
+import java.util.Random;
+
+public class BrazilianUserGenerator {
+    private static final long CPF_BASES = 1_000_000_000L;
+    private static final long CPF_STRIDE = 387_420_489L;
+    private static final long CPF_OFFSET = 123_456_789L;
+
+    private static final String[] FIRST_NAMES = {
+            "Maria", "José", "Ana", "João", "Antônio", "Francisca", "Francisco", "Antônia", "Carlos", "Adriana",
+            "Paulo", "Juliana", "Pedro", "Márcia", "Lucas", "Fernanda", "Luís", "Patrícia", "Marcos", "Aline",
+            "Gabriel", "Sandra", "Rafael", "Camila", "Raimundo", "Letícia", "Sebastião", "Júlia", "Rodrigo", "Cecília",
+            "Maria Eduarda", "João Pedro", "Ana Clara", "Luiz Fernando", "Conceição", "Inês", "Vinícius", "Lúcia",
+            "Caíque", "Gonçalo"
+    };
+    private static final String[] LAST_NAMES = {
+            "Silva", "Santos", "Oliveira", "Souza", "Rodrigues", "Ferreira", "Alves", "Pereira", "Lima", "Gomes",
+            "Costa", "Ribeiro", "Martins", "Carvalho", "Almeida", "Lopes", "Soares", "Fernandes", "Vieira", "Barbosa",
+            "Rocha", "Dias", "Nascimento", "Andrade", "Moreira", "Nunes", "Marques", "Machado", "Mendes", "Freitas",
+            "Gonçalves", "Araújo", "Conceição", "Simões", "Brandão", "Assunção", "Magalhães", "Falcão", "Damião",
+            "Guimarães"
+    };
+    private static final String[] EMAIL_DOMAINS = {
+            "gmail.com", "hotmail.com", "outlook.com", "yahoo.com.br", "uol.com.br", "bol.com.br", "terra.com.br"
+    };
+
+    private final Random random;
+    private final String passwordHash;
+    private final LocalDate today = LocalDate.now();
+    private long sequence;
+
+    public BrazilianUserGenerator(long seed, String passwordHash) {
+        this.random = new Random(seed);
+        this.passwordHash = passwordHash;
+    }
+
+    public User next() {
+        long index = sequence++;
+        String cpfBase = cpfBase(index);
+        while (cpfBase.chars().distinct().count() == 1) {
+            index = sequence++;
+            cpfBase = cpfBase(index);
+        }
+        String name = pick(FIRST_NAMES);
+        String lastName = random.nextInt(4) == 0 ? pick(LAST_NAMES) + " " + pick(LAST_NAMES) : pick(LAST_NAMES);
+        String email = emailLocalPart(name) + "." + emailLocalPart(lastName) + index + "@" + pick(EMAIL_DOMAINS);
+        LocalDate dateOfBirth = today
+                .minusYears(18 + (long) (72 * Math.pow(random.nextDouble(), 1.5)))
+                .minusDays(random.nextInt(365));
+
+        User user = new User(name, lastName, withCheckDigits(cpfBase), dateOfBirth, email, passwordHash);
+        user.generateId();
+        return user;
+    }
+
+    public static String withCheckDigits(String nineDigits) {
+        int first = checkDigit(nineDigits, 10);
+        int second = checkDigit(nineDigits + first, 11);
+        return nineDigits + first + second;
+    }
+
+    private static int checkDigit(String digits, int firstWeight) {
+        int sum = 0;
+        for (int i = 0; i < digits.length(); i++) {
+            sum += (digits.charAt(i) - '0') * (firstWeight - i);
+        }
+        int remainder = sum * 10 % 11;
+        return remainder == 10 ? 0 : remainder;
+    }
+
+    private static String cpfBase(long index) {
+        return String.format("%09d", Math.floorMod(index * CPF_STRIDE + CPF_OFFSET, CPF_BASES));
+    }
+
+    private String pick(String[] values) {
+        return values[(int) (Math.pow(random.nextDouble(), 2) * values.length)];
+    }
+
+    private static String emailLocalPart(String value) {
+        return SearchText.fold(value).replace(' ', '.');
+    }
+}
@@ -0,0 +1,55 @@
+package com.neoapp.dataset;
+
+import com.neoapp.entity.User;
+import com.neoapp.validation.Cpf;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BrazilianUserGenerator Tests")
+class BrazilianUserGeneratorTest {
+
+    @Test
+    @DisplayName("Should generate valid, unique CPFs and emails for adult users")
+    void shouldGenerateValidUniqueUsers() {
+        BrazilianUserGenerator generator = new BrazilianUserGenerator(7, "hash");
+        Set<String> cpfs = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+
+        for (int i = 0; i < 10_000; i++) {
+            User user = generator.next();
+            int age = Period.between(user.getDateOfBirth(), LocalDate.now()).getYears();
+
+            assertTrue(Cpf.isValid(user.getCpf()), user.getCpf());
+            assertTrue(cpfs.add(user.getCpf()));
+            assertTrue(emails.add(user.getEmail()));
+            assertTrue(age >= 18 && age <= 90, String.valueOf(age));
+            assertNotNull(user.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("Should produce the same users for the same seed")
+    void shouldBeDeterministicForSeed() {
+        User first = new BrazilianUserGenerator(42, "hash").next();
+        User second = new BrazilianUserGenerator(42, "hash").next();
+
+        assertEquals(first.getCpf(), second.getCpf());
+        assertEquals(first.getEmail(), second.getEmail());
+        assertEquals(first.getDateOfBirth(), second.getDateOfBirth());
+    }
+
+    @Test
+    @DisplayName("Should compute CPF check digits")
+    void shouldComputeCheckDigits() {
+        assertEquals("52998224725", BrazilianUserGenerator.withCheckDigits("529982247"));
+        assertFalse(Cpf.isValid("52998224724"));
+        assertFalse(Cpf.isValid("11111111111"));
+    }
+}
@@ -0,0 +1,68 @@
+package com.neoapp.dataset;
+
+import com.neoapp.entity.User;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.function.Consumer;
+
+public final class UserBulkLoader {
+    private static final String COPY_SQL = "COPY users " +
+            "(id, name, last_name, cpf, date_of_birth, email, password, name_search, last_name_search) FROM STDIN";
+    private static final int FLUSH_THRESHOLD = 1 << 20;
+
+    private UserBulkLoader() {
+    }
+
+    public static long load(Connection connection, BrazilianUserGenerator generator, long count) throws SQLException {
+        return load(connection, generator, count, user -> {
+        });
+    }
+
+    public static long load(Connection connection, BrazilianUserGenerator generator, long count,
+                            Consumer<User> onLoaded) throws SQLException {
+        CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+        try {
+            StringBuilder rows = new StringBuilder(FLUSH_THRESHOLD + 1024);
+            for (long i = 0; i < count; i++) {
+                User user = generator.next();
+                rows.append(user.getId()).append('\t')
+                        .append(user.getName()).append('\t')
+                        .append(user.getLastName()).append('\t')
+                        .append(user.getCpf()).append('\t')
+                        .append(user.getDateOfBirth()).append('\t')
+                        .append(user.getEmail()).append('\t')
+                        .append(user.getPassword()).append('\t')
+                        .append(user.getNameSearch()).append('\t')
+                        .append(user.getLastNameSearch()).append('\n');
+                onLoaded.accept(user);
+                if (rows.length() >= FLUSH_THRESHOLD) {
+                    write(copyIn, rows);
+                }
+            }
+            write(copyIn, rows);
+            long loaded = copyIn.endCopy();
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE users");
+            }
+            return loaded;
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    private static void write(CopyIn copyIn, StringBuilder rows) throws SQLException {
+        byte[] bytes = rows.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        rows.setLength(0);
+    }
+}
@@ -0,0 +1,33 @@
+package com.neoapp.loadtest;
+
+import com.neoapp.NeoappApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class EmbeddedApplication {
+    private EmbeddedApplication() {
+    }
+
+    static ConfigurableApplicationContext start(EmbeddedPostgres postgres, String... extraArguments) {
+        List<String> arguments = new ArrayList<>(List.of(
+                "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                "--spring.datasource.username=postgres",
+                "--spring.datasource.password=postgres",
+                "--spring.docker.compose.enabled=false",
+                "--server.port=0",
+                "--management.server.port=0",
+                "--auth.token=loadtest-secret",
+                "--auth.password-hashing.cost=10",
+                "--logging.level.com.neoapp=WARN"));
+        arguments.addAll(List.of(extraArguments));
+        String overrides = System.getProperty("loadtest.app-args", "").trim();
+        if (!overrides.isEmpty()) {
+            arguments.addAll(List.of(overrides.split("\\s+")));
+        }
+        return SpringApplication.run(NeoappApplication.class, arguments.toArray(String[]::new));
+    }
+}
@@ -0,0 +1,44 @@
+package com.neoapp.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+final class EndpointStats {
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Histogram latencies = new ConcurrentHistogram(TimeUnit.MINUTES.toNanos(5), 3);
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+
+    void record(long latencyNanos, String outcome) {
+        latencies.recordValue(Math.min(latencyNanos, latencies.getHighestTrackableValue()));
+        outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+    }
+
+    Map<String, Object> summary(Duration window) {
+        long requests = latencies.getTotalCount();
+        Map<String, Long> counts = new TreeMap<>();
+        outcomes.forEach((outcome, count) -> counts.put(outcome, count.sum()));
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", requests);
+        summary.put("throughputPerSecond", requests / (window.toMillis() / 1000.0));
+        summary.put("outcomes", counts);
+        summary.put("p50Ms", percentile(50));
+        summary.put("p99Ms", percentile(99));
+        summary.put("p999Ms", percentile(99.9));
+        summary.put("maxMs", latencies.getMaxValue() / NANOS_PER_MILLI);
+        return summary;
+    }
+
+    private double percentile(double percentile) {
+        return latencies.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+    }
+}
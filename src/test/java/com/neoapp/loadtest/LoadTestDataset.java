@@ -0,0 +1,32 @@
+package com.neoapp.loadtest;
+
+import com.neoapp.dataset.BrazilianUserGenerator;
+import com.neoapp.dataset.UserBulkLoader;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+final class LoadTestDataset {
+    private static final long SEED = 42;
+
+    private LoadTestDataset() {
+    }
+
+    static List<SeededUser> seed(DataSource dataSource, int count, String password) throws SQLException {
+        String passwordHash = "{bcrypt}" + new BCryptPasswordEncoder(10).encode(password);
+        List<SeededUser> users = new ArrayList<>(count);
+        try (Connection connection = dataSource.getConnection()) {
+            UserBulkLoader.load(connection, new BrazilianUserGenerator(SEED, passwordHash), count,
+                    user -> users.add(new SeededUser(user.getId(), user.getEmail())));
+        }
+        return users;
+    }
+
+    record SeededUser(UUID id, String email) {
+    }
+}
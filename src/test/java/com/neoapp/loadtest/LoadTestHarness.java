@@ -0,0 +1,218 @@
+package com.neoapp.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neoapp.loadtest.LoadTestDataset.SeededUser;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+public class LoadTestHarness {
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestHarness.class);
+
+    private static final String DEFAULT_RATES = "login:5,list:50,search:20,get:100,update:5";
+    private static final String PASSWORD = "loadtest-password";
+    private static final String[] SEARCH_TERMS = {"silva", "joao", "maria", "conceicao", "araujo", "lu"};
+    private static final int SESSIONS = 20;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(60);
+
+    public static void main(String[] args) throws Exception {
+        int userCount = Integer.getInteger("loadtest.users", 10_000);
+        Duration warmup = Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 10));
+        Duration duration = Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 60));
+        Map<String, Double> rates = parseRates(System.getProperty("loadtest.rates", DEFAULT_RATES));
+        Path output = Path.of(System.getProperty("loadtest.output", "target/loadtest-summary.json"));
+
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+             ConfigurableApplicationContext application = EmbeddedApplication.start(postgres)) {
+            logger.info("Seeding {} users", userCount);
+            List<SeededUser> users = LoadTestDataset.seed(postgres.getPostgresDatabase(), userCount, PASSWORD);
+
+            int port = ((WebServerApplicationContext) application).getWebServer().getPort();
+            String baseUrl = "http://localhost:" + port;
+            ObjectMapper objectMapper = application.getBean(ObjectMapper.class);
+            HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+            List<String> tokens = login(client, objectMapper, baseUrl, users.subList(0, Math.min(SESSIONS, users.size())));
+
+            logger.info("Driving {} for {}s after {}s of warmup", rates, duration.toSeconds(), warmup.toSeconds());
+            Map<String, Supplier<HttpRequest>> scenarios = scenarios(objectMapper, baseUrl, users, tokens);
+            Map<String, EndpointStats> stats = run(client, scenarios, rates, warmup, duration);
+
+            Map<String, Object> endpoints = new LinkedHashMap<>();
+            stats.forEach((name, endpointStats) -> endpoints.put(name, endpointStats.summary(duration)));
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("users", userCount);
+            summary.put("warmupSeconds", warmup.toSeconds());
+            summary.put("durationSeconds", duration.toSeconds());
+            summary.put("ratesPerSecond", rates);
+            summary.put("endpoints", endpoints);
+
+            Path directory = output.toAbsolutePath().getParent();
+            if (directory != null) {
+                Files.createDirectories(directory);
+            }
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(output.toFile(), summary);
+            logger.info("Load test summary written to {}:\n{}", output,
+                    objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(summary));
+        }
+    }
+
+    private static List<String> login(HttpClient client, ObjectMapper objectMapper, String baseUrl,
+                                      List<SeededUser> sessions) throws IOException, InterruptedException {
+        List<String> tokens = new ArrayList<>(sessions.size());
+        for (SeededUser user : sessions) {
+            HttpResponse<String> response = client.send(loginRequest(objectMapper, baseUrl, user),
+                    HttpResponse.BodyHandlers.ofString());
+            JsonNode body = objectMapper.readTree(response.body());
+            if (response.statusCode() != 200 || !body.hasNonNull("token")) {
+                throw new IllegalStateException("Login failed for " + user.email() + ": " + response.body());
+            }
+            tokens.add(body.get("token").asText());
+        }
+        return tokens;
+    }
+
+    private static Map<String, Supplier<HttpRequest>> scenarios(ObjectMapper objectMapper, String baseUrl,
+                                                                List<SeededUser> users, List<String> tokens) {
+        int pages = Math.max(1, Math.min(100, users.size() / 20));
+        Map<String, Supplier<HttpRequest>> scenarios = new LinkedHashMap<>();
+        scenarios.put("login", () -> loginRequest(objectMapper, baseUrl, randomUser(users)));
+        scenarios.put("list", () -> authenticated(tokens, baseUrl + "/users?size=20&page=" + random(pages)).GET().build());
+        scenarios.put("search", () -> authenticated(tokens,
+                baseUrl + "/users/search?size=20&q=" + SEARCH_TERMS[random(SEARCH_TERMS.length)]).GET().build());
+        scenarios.put("get", () -> authenticated(tokens, baseUrl + "/users/" + randomUser(users).id()).GET().build());
+        scenarios.put("update", () -> authenticated(tokens, baseUrl + "/users/" + randomUser(users).id())
+                .header("Content-Type", "application/json")
+                .PUT(json(objectMapper, Map.of("name", "Carga " + random(1_000))))
+                .build());
+        return scenarios;
+    }
+
+    private static Map<String, EndpointStats> run(HttpClient client, Map<String, Supplier<HttpRequest>> scenarios,
+                                                  Map<String, Double> rates, Duration warmup, Duration duration)
+            throws InterruptedException {
+        long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100);
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        AtomicInteger outstanding = new AtomicInteger();
+        Map<String, EndpointStats> stats = new LinkedHashMap<>();
+        List<Thread> generators = new ArrayList<>();
+
+        rates.forEach((name, rate) -> {
+            Supplier<HttpRequest> requests = scenarios.get(name);
+            if (requests == null) {
+                throw new IllegalArgumentException("Unknown scenario '" + name + "', expected one of " + scenarios.keySet());
+            }
+            EndpointStats endpointStats = new EndpointStats();
+            stats.put(name, endpointStats);
+            generators.add(new Thread(() -> generate(client, requests, rate, start, measureFrom, end, endpointStats,
+                    outstanding), "loadtest-" + name));
+        });
+        generators.forEach(Thread::start);
+        for (Thread generator : generators) {
+            generator.join();
+        }
+
+        long drainDeadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (outstanding.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(50);
+        }
+        return stats;
+    }
+
+    private static void generate(HttpClient client, Supplier<HttpRequest> requests, double rate, long start,
+                                 long measureFrom, long end, EndpointStats stats, AtomicInteger outstanding) {
+        long period = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        for (long intended = start; intended < end; intended += period) {
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            long scheduledAt = intended;
+            outstanding.incrementAndGet();
+            client.sendAsync(requests.get(), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        if (scheduledAt >= measureFrom) {
+                            stats.record(System.nanoTime() - scheduledAt, outcome(response, error));
+                        }
+                        outstanding.decrementAndGet();
+                    });
+        }
+    }
+
+    private static String outcome(HttpResponse<?> response, Throwable error) {
+        if (response != null) {
+            return String.valueOf(response.statusCode());
+        }
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause.getClass().getSimpleName();
+    }
+
+    private static HttpRequest loginRequest(ObjectMapper objectMapper, String baseUrl, SeededUser user) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/auth/v1/login"))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(json(objectMapper, Map.of("email", user.email(), "password", PASSWORD)))
+                .build();
+    }
+
+    private static HttpRequest.Builder authenticated(List<String> tokens, String url) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", "Bearer " + tokens.get(random(tokens.size())));
+    }
+
+    private static HttpRequest.BodyPublisher json(ObjectMapper objectMapper, Object body) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+        } catch (IOException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private static SeededUser randomUser(List<SeededUser> users) {
+        return users.get(random(users.size()));
+    }
+
+    private static int random(int bound) {
+        return ThreadLocalRandom.current().nextInt(bound);
+    }
+
+    private static Map<String, Double> parseRates(String value) {
+        Map<String, Double> rates = new LinkedHashMap<>();
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid rate '" + entry + "', expected scenario:requestsPerSecond");
+            }
+            double rate = Double.parseDouble(parts[1].trim());
+            if (rate > 0) {
+                rates.put(parts[0].trim(), rate);
+            }
+        }
+        return rates;
+    }
+}
@@ -0,0 +1,195 @@
+package com.neoapp.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neoapp.dataset.BrazilianUserGenerator;
+import com.neoapp.dataset.UserBulkLoader;
+import com.neoapp.entity.User;
+import com.neoapp.repository.KeysetCursor;
+import com.neoapp.repository.UserRepository;
+import com.neoapp.repository.UserSpecifications;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+public class UserScalingReport {
+    private static final Logger logger = LoggerFactory.getLogger(UserScalingReport.class);
+
+    private static final long SEED = 42;
+    private static final String DEFAULT_SIZES = "10000,100000,1000000";
+    private static final String PASSWORD_HASH = "{bcrypt}$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z3oBvFdQrjR5bVrq9a0wYHHO";
+    private static final int SAMPLES = 1_000;
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int PAGE_SIZE = 20;
+    private static final int BAR_WIDTH = 40;
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    public static void main(String[] args) throws Exception {
+        long[] sizes = Arrays.stream(System.getProperty("report.sizes", DEFAULT_SIZES).split(","))
+                .map(String::trim)
+                .mapToLong(Long::parseLong)
+                .sorted()
+                .toArray();
+        int iterations = Integer.getInteger("report.iterations", 200);
+        Path output = Path.of(System.getProperty("report.output", "target/scaling-report.json"));
+
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+             ConfigurableApplicationContext application = EmbeddedApplication.start(postgres,
+                     "--spring.main.web-application-type=none")) {
+            UserRepository repository = application.getBean(UserRepository.class);
+            BrazilianUserGenerator generator = new BrazilianUserGenerator(SEED, PASSWORD_HASH);
+            Samples samples = new Samples(new Random(SEED));
+            Map<String, Map<Long, Map<String, Double>>> results = new LinkedHashMap<>();
+
+            long loaded = 0;
+            for (long size : sizes) {
+                logger.info("Loading users {} to {}", loaded, size);
+                try (Connection connection = postgres.getPostgresDatabase().getConnection()) {
+                    loaded += UserBulkLoader.load(connection, generator, size - loaded, samples::offer);
+                }
+
+                logger.info("Timing repository queries against {} users", loaded);
+                for (Map.Entry<String, Function<Sample, Object>> query : queries(repository, loaded).entrySet()) {
+                    results.computeIfAbsent(query.getKey(), key -> new LinkedHashMap<>())
+                            .put(loaded, time(query.getValue(), samples, iterations));
+                }
+            }
+
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("sizes", sizes);
+            report.put("iterations", iterations);
+            report.put("queries", results);
+
+            Path directory = output.toAbsolutePath().getParent();
+            if (directory != null) {
+                Files.createDirectories(directory);
+            }
+            ObjectMapper objectMapper = application.getBean(ObjectMapper.class);
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(output.toFile(), report);
+            Path markdown = output.resolveSibling(output.getFileName().toString().replaceFirst("\\.json$", "") + ".md");
+            String chart = markdown(results, sizes);
+            Files.writeString(markdown, chart);
+            logger.info("Scaling report written to {} and {}:\n{}", output, markdown, chart);
+        }
+    }
+
+    private static Map<String, Function<Sample, Object>> queries(UserRepository repository, long size) {
+        LocalDate today = LocalDate.now();
+        PageRequest firstPage = PageRequest.of(0, PAGE_SIZE, Sort.by("name"));
+        PageRequest deepPage = PageRequest.of((int) Math.min(size / PAGE_SIZE / 2, 5_000), PAGE_SIZE, Sort.by("name"));
+
+        Map<String, Function<Sample, Object>> queries = new LinkedHashMap<>();
+        queries.put("findSummaryById", sample -> repository.findSummaryById(sample.id()));
+        queries.put("findSummaryByEmail", sample -> repository.findSummaryByEmail(sample.email()));
+        queries.put("findSummaryByCpf", sample -> repository.findSummaryByCpf(sample.cpf()));
+        queries.put("findVersionById", sample -> repository.findVersionById(sample.id()));
+        queries.put("findTableVersion", sample -> repository.findTableVersion());
+        queries.put("findAllSummaries (first page)", sample -> repository.findAllSummaries(firstPage));
+        queries.put("findAllSummaries (deep page)", sample -> repository.findAllSummaries(deepPage));
+        queries.put("findByNameContainingIgnoreCase", sample -> repository.findByNameContainingIgnoreCase("joao", firstPage));
+        queries.put("findByLastNameContainingIgnoreCase", sample -> repository.findByLastNameContainingIgnoreCase("conceicao", firstPage));
+        queries.put("findByFullNameContainingIgnoreCase", sample -> repository.findByFullNameContainingIgnoreCase("ana", "silva", firstPage));
+        queries.put("searchByNameOrLastName", sample -> repository.searchByNameOrLastName("araujo", firstPage));
+        queries.put("findAfter (first page)", sample -> repository.findAfter(null,
+                KeysetCursor.first("name", Sort.Direction.ASC), PAGE_SIZE));
+        queries.put("findAfter (from sample)", sample -> repository.findAfter(null,
+                KeysetCursor.after("name", Sort.Direction.ASC, sample.name(), sample.id()), PAGE_SIZE));
+        queries.put("findSlice (born 1980s)", sample -> repository.findSlice(
+                UserSpecifications.bornBetween(LocalDate.of(1980, 1, 1), LocalDate.of(1989, 12, 31)), firstPage));
+        queries.put("count (over 60)", sample -> repository.count(
+                UserSpecifications.bornBetween(null, today.minusYears(60))));
+        return queries;
+    }
+
+    private static Map<String, Double> time(Function<Sample, Object> query, Samples samples, int iterations) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            query.apply(samples.random());
+        }
+        Histogram latencies = new Histogram(TimeUnit.MINUTES.toNanos(1), 3);
+        for (int i = 0; i < iterations; i++) {
+            Sample sample = samples.random();
+            long start = System.nanoTime();
+            query.apply(sample);
+            latencies.recordValue(Math.min(System.nanoTime() - start, latencies.getHighestTrackableValue()));
+        }
+
+        Map<String, Double> summary = new LinkedHashMap<>();
+        summary.put("p50Ms", latencies.getValueAtPercentile(50) / NANOS_PER_MILLI);
+        summary.put("p95Ms", latencies.getValueAtPercentile(95) / NANOS_PER_MILLI);
+        summary.put("maxMs", latencies.getMaxValue() / NANOS_PER_MILLI);
+        return summary;
+    }
+
+    private static String markdown(Map<String, Map<Long, Map<String, Double>>> results, long[] sizes) {
+        StringBuilder table = new StringBuilder("| Query |");
+        for (long size : sizes) {
+            table.append(' ').append(size).append(" p50 / p95 (ms) |");
+        }
+        table.append("\n|---|").append("---:|".repeat(sizes.length)).append('\n');
+        results.forEach((query, bySize) -> {
+            table.append("| ").append(query).append(" |");
+            bySize.values().forEach(summary -> table.append(String.format(" %.3f / %.3f |",
+                    summary.get("p50Ms"), summary.get("p95Ms"))));
+            table.append('\n');
+        });
+
+        StringBuilder chart = new StringBuilder("\n```\n");
+        results.forEach((query, bySize) -> {
+            double slowest = bySize.values().stream().mapToDouble(summary -> summary.get("p50Ms")).max().orElse(0);
+            chart.append(query).append('\n');
+            bySize.forEach((size, summary) -> {
+                double p50 = summary.get("p50Ms");
+                int bar = slowest > 0 ? (int) Math.round(p50 / slowest * BAR_WIDTH) : 0;
+                chart.append(String.format("  %,12d | %-" + BAR_WIDTH + "s %.3f ms%n", size, "#".repeat(bar), p50));
+            });
+        });
+        return table.append(chart.append("```\n")).toString();
+    }
+
+    private record Sample(UUID id, String email, String cpf, String name) {
+    }
+
+    private static final class Samples {
+        private final Random random;
+        private final List<Sample> samples = new ArrayList<>(SAMPLES);
+        private long seen;
+
+        Samples(Random random) {
+            this.random = random;
+        }
+
+        void offer(User user) {
+            Sample sample = new Sample(user.getId(), user.getEmail(), user.getCpf(), user.getName());
+            seen++;
+            if (samples.size() < SAMPLES) {
+                samples.add(sample);
+                return;
+            }
+            long slot = (long) (random.nextDouble() * seen);
+            if (slot < SAMPLES) {
+                samples.set((int) slot, sample);
+            }
+        }
+
+        Sample random() {
+            return samples.get(random.nextInt(samples.size()));
+        }
+    }
+}
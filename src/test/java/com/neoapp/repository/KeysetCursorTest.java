@@ -0,0 +1,39 @@
+package com.neoapp.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("KeysetCursor Tests")
+class KeysetCursorTest {
+
+    private final UUID id = UUID.randomUUID();
+
+    @Test
+    @DisplayName("Should round-trip string and date sort values")
+    void shouldRoundTripValues() {
+        KeysetCursor byName = KeysetCursor.after("name", Sort.Direction.ASC, "a|b", id);
+        KeysetCursor byDate = KeysetCursor.after("dateOfBirth", Sort.Direction.DESC, LocalDate.of(1990, 5, 15), id);
+
+        assertEquals(byName, KeysetCursor.decode(byName.encode()));
+        assertEquals(byDate, KeysetCursor.decode(byDate.encode()));
+    }
+
+    @Test
+    @DisplayName("Should distinguish a null sort value from the text 'null' and from an empty value")
+    void shouldRoundTripNullSortValue() {
+        KeysetCursor nullValue = KeysetCursor.decode(KeysetCursor.after("lastName", Sort.Direction.ASC, null, id).encode());
+        KeysetCursor nullText = KeysetCursor.decode(KeysetCursor.after("lastName", Sort.Direction.ASC, "null", id).encode());
+        KeysetCursor emptyText = KeysetCursor.decode(KeysetCursor.after("lastName", Sort.Direction.ASC, "", id).encode());
+
+        assertNull(nullValue.value());
+        assertTrue(nullValue.hasPosition());
+        assertEquals("null", nullText.value());
+        assertEquals("", emptyText.value());
+    }
+}
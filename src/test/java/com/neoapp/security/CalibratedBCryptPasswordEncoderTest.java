@@ -0,0 +1,39 @@
+package com.neoapp.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("CalibratedBCryptPasswordEncoder Tests")
+class CalibratedBCryptPasswordEncoderTest {
+
+    private final CalibratedBCryptPasswordEncoder encoder = new CalibratedBCryptPasswordEncoder(5);
+
+    @Test
+    @DisplayName("Should upgrade hashes stored with a lower cost")
+    void shouldUpgradeLowerCost() {
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password123")));
+    }
+
+    @Test
+    @DisplayName("Should keep hashes stored with a higher cost by another instance")
+    void shouldKeepHigherCost() {
+        assertFalse(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("password123")));
+    }
+
+    @Test
+    @DisplayName("Should keep hashes stored with the same cost")
+    void shouldKeepSameCost() {
+        assertFalse(encoder.upgradeEncoding(encoder.encode("password123")));
+    }
+
+    @Test
+    @DisplayName("Should not upgrade values that are not bcrypt hashes")
+    void shouldIgnoreNonBcryptValues() {
+        assertFalse(encoder.upgradeEncoding(null));
+        assertFalse(encoder.upgradeEncoding("plain-text"));
+    }
+}
@@ -0,0 +1,49 @@
+package com.neoapp.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RouteClassifier Tests")
+class RouteClassifierTest {
+
+    private final RouteClassifier routes = new RouteClassifier(List.of("/auth/v1/**", "/actuator/info", "/swagger-ui.html"));
+
+    @Test
+    @DisplayName("Should match subtree patterns like AntPathMatcher")
+    void shouldMatchSubtreePatterns() {
+        assertTrue(routes.isPublic("/auth/v1"));
+        assertTrue(routes.isPublic("/auth/v1/"));
+        assertTrue(routes.isPublic("/auth/v1/login"));
+        assertFalse(routes.isPublic("/auth/v1x"));
+        assertFalse(routes.isPublic("/auth"));
+    }
+
+    @Test
+    @DisplayName("Should match exact patterns only on the full path")
+    void shouldMatchExactPatterns() {
+        assertTrue(routes.isPublic("/actuator/info"));
+        assertFalse(routes.isPublic("/actuator/info/"));
+        assertFalse(routes.isPublic("/actuator/infox"));
+        assertTrue(routes.isPublic("/swagger-ui.html"));
+        assertFalse(routes.isPublic(null));
+    }
+
+    @Test
+    @DisplayName("Should classify public, preflight and protected requests")
+    void shouldClassifyRequests() {
+        assertEquals(RouteClassifier.Route.PUBLIC, routes.classify("OPTIONS", "/auth/v1/login"));
+        assertEquals(RouteClassifier.Route.PREFLIGHT, routes.classify("OPTIONS", "/users"));
+        assertEquals(RouteClassifier.Route.PROTECTED, routes.classify("GET", "/users"));
+    }
+
+    @Test
+    @DisplayName("Should reject wildcard patterns it cannot compile")
+    void shouldRejectUnsupportedPatterns() {
+        assertThrows(IllegalArgumentException.class, () -> new RouteClassifier(List.of("/users/*/avatar")));
+        assertThrows(IllegalArgumentException.class, () -> new RouteClassifier(List.of("users/**")));
+    }
+}
@@ -0,0 +1,80 @@
+package com.neoapp.security;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SecurityFilter Tests")
+class SecurityFilterTest {
+
+    private static final UUID ADMIN_ID = UUID.randomUUID();
+
+    @Mock
+    private TokenService tokenService;
+
+    @Mock
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Mock
+    private DecodedJWT decodedToken;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should grant ROLE_ADMIN to configured user ids")
+    void shouldGrantAdminToConfiguredUserIds() throws Exception {
+        authenticate(ADMIN_ID, "admin@email.com");
+
+        assertTrue(hasAdminRole());
+    }
+
+    @Test
+    @DisplayName("Should not grant ROLE_ADMIN based on the email in the token")
+    void shouldNotGrantAdminBasedOnEmail() throws Exception {
+        authenticate(UUID.randomUUID(), ADMIN_ID + "@email.com");
+
+        assertNotNull(SecurityContextHolder.getContext().getAuthentication());
+        assertFalse(hasAdminRole());
+    }
+
+    private void authenticate(UUID userId, String email) throws Exception {
+        SecurityFilter filter = new SecurityFilter(tokenService, customUserDetailsService, Set.of(ADMIN_ID));
+        when(tokenService.verifyToken("token")).thenReturn(decodedToken);
+        when(decodedToken.getSubject()).thenReturn(email);
+        when(tokenService.hasIdentityClaims(decodedToken)).thenReturn(true);
+        when(tokenService.isCurrent(decodedToken)).thenReturn(true);
+        when(tokenService.isStatelessMode()).thenReturn(true);
+        when(tokenService.readPrincipal(decodedToken)).thenReturn(new CustomUserDetails(userId, email));
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/admin/v1/users/import");
+        request.addHeader("Authorization", "Bearer token");
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+    }
+
+    private static boolean hasAdminRole() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch("ROLE_ADMIN"::equals);
+    }
+}
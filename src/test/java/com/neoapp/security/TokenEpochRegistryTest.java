@@ -0,0 +1,80 @@
+package com.neoapp.security;
+
+import com.neoapp.config.PrimaryReads;
+import com.neoapp.config.ReadYourWrites;
+import com.neoapp.entity.TokenEpoch;
+import com.neoapp.repository.TokenEpochRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+@DisplayName("TokenEpochRegistry Tests")
+class TokenEpochRegistryTest {
+
+    @Autowired
+    private TokenEpochRepository tokenEpochRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TokenEpochRegistry instanceA;
+    private TokenEpochRegistry instanceB;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        PrimaryReads primaryReads = new PrimaryReads(new ReadYourWrites(Duration.ofSeconds(5)), transactionManager);
+        instanceA = new TokenEpochRegistry(tokenEpochRepository, primaryReads);
+        instanceB = new TokenEpochRegistry(tokenEpochRepository, primaryReads);
+        userId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should issue tokens with the stored epoch even before the local map refreshes")
+    void shouldIssueWithStoredEpochBeforeRefresh() {
+        instanceA.advance(userId);
+
+        assertEquals(0, instanceB.currentEpoch(userId));
+        assertEquals(1, instanceB.loadEpoch(userId));
+        assertTrue(instanceB.isCurrent(userId, 1));
+        assertFalse(instanceB.isCurrent(userId, 0));
+    }
+
+    @Test
+    @DisplayName("Should accept a newer token minted on another instance without waiting for the refresh")
+    void shouldAcceptNewerEpochFromAnotherInstance() {
+        instanceA.advance(userId);
+        int epoch = instanceA.loadEpoch(userId);
+
+        assertTrue(instanceB.isCurrent(userId, epoch));
+        assertEquals(epoch, instanceB.currentEpoch(userId));
+    }
+
+    @Test
+    @DisplayName("Should reject tokens revoked on another instance once the refresh runs")
+    void shouldRejectRevokedTokensAfterRefresh() {
+        assertTrue(instanceB.isCurrent(userId, 0));
+
+        instanceA.revoke(userId);
+
+        assertTrue(instanceB.isCurrent(userId, 0));
+        instanceB.refresh();
+        assertFalse(instanceB.isCurrent(userId, 0));
+        assertEquals(TokenEpoch.REVOKED, instanceB.loadEpoch(userId));
+    }
+}
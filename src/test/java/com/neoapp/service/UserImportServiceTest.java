@@ -0,0 +1,78 @@
+package com.neoapp.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("UserImportService Tests")
+class UserImportServiceTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+    private ValidatorFactory validatorFactory;
+    private UserImportService userImportService;
+
+    @BeforeEach
+    void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        userImportService = new UserImportService(
+                jdbcTemplate, passwordEncoder, objectMapper, validatorFactory.getValidator(), 1, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        userImportService.close();
+        validatorFactory.close();
+    }
+
+    @Test
+    @DisplayName("Should reject a literal null row and keep importing")
+    void shouldRejectNullRow() throws Exception {
+        List<String> results = importLines("null\n{\"name\":\"John\"}\n");
+
+        assertEquals(2, results.size());
+        assertTrue(results.get(0).contains("\"line\":1"));
+        assertTrue(results.get(0).contains("Invalid JSON row"));
+        assertTrue(results.get(1).contains("\"line\":2"));
+        verifyNoInteractions(passwordEncoder, jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should reject rows with the same rules as registration")
+    void shouldRejectRowsWithRegistrationRules() throws Exception {
+        String password = "a".repeat(101);
+        List<String> results = importLines("{\"name\":\"John\",\"lastName\":\"Doe\",\"cpf\":\"52998224725\","
+                + "\"dateOfBirth\":\"01/01/1990\",\"email\":\"john@example.com\",\"password\":\"" + password + "\"}\n"
+                + "{\"name\":\"John\",\"lastName\":\"Doe\",\"cpf\":\"12345678900\","
+                + "\"dateOfBirth\":\"01/01/1990\",\"email\":\"john@example.com\",\"password\":\"password123\"}\n");
+
+        assertEquals(2, results.size());
+        assertTrue(results.get(0).contains("password: Password must have between 6 and 100 characters"));
+        assertTrue(results.get(1).contains("cpf: "));
+        verifyNoInteractions(passwordEncoder, jdbcTemplate);
+    }
+
+    private List<String> importLines(String body) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        userImportService.importUsers(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), MediaType.APPLICATION_NDJSON, response);
+        return response.getContentAsString(StandardCharsets.UTF_8).lines().toList();
+    }
+}
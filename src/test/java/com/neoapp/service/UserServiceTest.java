@@ -1,12 +1,20 @@
 package com.neoapp.service;
 
+import com.neoapp.config.PrimaryReads;
+import com.neoapp.config.ReadYourWrites;
 import com.neoapp.dto.request.LoginRequestDTO;
+import com.neoapp.dto.request.PageQueryDTO;
 import com.neoapp.dto.request.RegisterUserDTO;
 import com.neoapp.dto.request.UpdateRequestUserDTO;
 import com.neoapp.dto.response.*;
 import com.neoapp.entity.User;
+import com.neoapp.repository.KeysetCursor;
 import com.neoapp.repository.UserRepository;
+import com.neoapp.repository.UserSummary;
+import com.neoapp.security.PasswordHashingBusyException;
+import com.neoapp.security.PrincipalCache;
 import com.neoapp.security.TokenService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -14,15 +22,26 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
@@ -47,16 +66,31 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private PrincipalCache principalCache;
+
+    @Mock
+    private UserCountEstimator userCountEstimator;
+
+    @Mock
+    private ReadYourWrites readYourWrites;
+
+    @Spy
+    private UserCache userCache = new UserCache(100, Duration.ofMinutes(1), new SimpleMeterRegistry(),
+            new PrimaryReads(new ReadYourWrites(Duration.ofSeconds(5)), mock(PlatformTransactionManager.class)));
+
     @InjectMocks
     private UserService userService;
 
     private User mockUser;
+    private UserSummary mockSummary;
     private UUID userId;
 
     @BeforeEach
     void setUp() {
         userId = UUID.randomUUID();
         mockUser = createMockUser();
+        mockSummary = createSummary(mockUser);
     }
 
     private User createMockUser() {
@@ -71,6 +105,11 @@ class UserServiceTest {
         return user;
     }
 
+    private UserSummary createSummary(User user) {
+        return new UserSummary(user.getId(), user.getName(), user.getLastName(),
+                user.getCpf(), user.getEmail(), user.getDateOfBirth(), user.getVersion());
+    }
+
     @Nested
     @DisplayName("listUsersPaginated Tests")
     class ListUsersPaginatedTests {
@@ -78,8 +117,8 @@ class UserServiceTest {
         @Test
         @DisplayName("Should return paginated users successfully")
         void shouldReturnPaginatedUsersSuccessfully() {
-            Page<User> userPage = new PageImpl<>(Arrays.asList(mockUser));
-            when(userRepository.findAll(any(Pageable.class))).thenReturn(userPage);
+            Page<UserSummary> userPage = new PageImpl<>(Arrays.asList(mockSummary));
+            when(userRepository.findAllSummaries(any(Pageable.class))).thenReturn(userPage);
 
             ResponseEntity<PaginatedResponseDTO<DataUserDTO>> response =
                     userService.listUsersPaginated(0, 10, "name", "asc");
@@ -91,11 +130,28 @@ class UserServiceTest {
             assertEquals(1, response.getBody().content().size());
         }
 
+        @Test
+        @DisplayName("Should return 304 until the users table version changes")
+        void shouldReturn304UntilTableVersionChanges() {
+            PageQueryDTO query = new PageQueryDTO(0, 10, "name", "asc", null, null);
+            when(userRepository.findAllSummaries(any(Pageable.class))).thenReturn(new PageImpl<>(Arrays.asList(mockSummary)));
+            when(userRepository.findTableVersion()).thenReturn(7L);
+
+            String etag = userService.listUsersPaginated(query, null).getHeaders().getETag();
+
+            assertNotNull(etag);
+            assertEquals(HttpStatus.NOT_MODIFIED, userService.listUsersPaginated(query, etag).getStatusCode());
+
+            when(userRepository.findTableVersion()).thenReturn(8L);
+
+            assertEquals(HttpStatus.OK, userService.listUsersPaginated(query, etag).getStatusCode());
+        }
+
         @Test
         @DisplayName("Should return error when no users found")
         void shouldReturnErrorWhenNoUsersFound() {
-            Page<User> emptyPage = new PageImpl<>(Collections.emptyList());
-            when(userRepository.findAll(any(Pageable.class))).thenReturn(emptyPage);
+            Page<UserSummary> emptyPage = new PageImpl<>(Collections.emptyList());
+            when(userRepository.findAllSummaries(any(Pageable.class))).thenReturn(emptyPage);
 
             ResponseEntity<PaginatedResponseDTO<DataUserDTO>> response =
                     userService.listUsersPaginated(0, 10, "name", "asc");
@@ -109,22 +165,148 @@ class UserServiceTest {
         @Test
         @DisplayName("Should handle invalid pagination parameters")
         void shouldHandleInvalidPaginationParameters() {
-            Page<User> userPage = new PageImpl<>(Arrays.asList(mockUser));
-            when(userRepository.findAll(any(Pageable.class))).thenReturn(userPage);
+            Page<UserSummary> userPage = new PageImpl<>(Arrays.asList(mockSummary));
+            when(userRepository.findAllSummaries(any(Pageable.class))).thenReturn(userPage);
 
             ResponseEntity<PaginatedResponseDTO<DataUserDTO>> response =
                     userService.listUsersPaginated(-1, 0, "", "invalid");
 
             assertEquals(HttpStatus.OK, response.getStatusCode());
-            verify(userRepository).findAll(PageRequest.of(0, 10,
+            verify(userRepository).findAllSummaries(PageRequest.of(0, 10,
                     org.springframework.data.domain.Sort.by(
                             org.springframework.data.domain.Sort.Direction.ASC, "name")));
         }
 
+        @Test
+        @DisplayName("Should return next cursor when more users are available")
+        void shouldReturnNextCursorWhenMoreUsersAreAvailable() {
+            UserSummary secondUser = createSummary(createMockUser());
+            when(userRepository.findAfter(isNull(), any(KeysetCursor.class), eq(2)))
+                    .thenReturn(Arrays.asList(mockSummary, secondUser));
+
+            ResponseEntity<PaginatedResponseDTO<DataUserDTO>> response =
+                    userService.listUsersPaginated(new PageQueryDTO(0, 1, "name", "asc", "", null));
+
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertEquals(1, response.getBody().content().size());
+            assertNotNull(response.getBody().nextCursor());
+            assertEquals(mockUser.getId(), KeysetCursor.decode(response.getBody().nextCursor()).id());
+            verify(userRepository, never()).findAllSummaries(any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("Should return 400 for a cursor created with a different sort")
+        void shouldReturn400ForCursorWithDifferentSort() {
+            String cursor = KeysetCursor.after("email", Sort.Direction.ASC, "joao@email.com", userId).encode();
+
+            ResponseEntity<PaginatedResponseDTO<DataUserDTO>> response =
+                    userService.listUsersPaginated(new PageQueryDTO(0, 10, "name", "asc", cursor, null));
+
+            assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+            assertEquals("Cursor does not match the requested sort", response.getBody().message());
+        }
+
+        @Test
+        @DisplayName("Should skip the count query when count strategy is none")
+        void shouldSkipCountQueryWhenCountStrategyIsNone() {
+            Pageable pageable = PageRequest.of(0, 1, Sort.by(Sort.Direction.ASC, "name"));
+            when(userRepository.findSlice(isNull(), eq(pageable)))
+                    .thenReturn(new SliceImpl<>(Arrays.asList(mockSummary), pageable, true));
+
+            ResponseEntity<PaginatedResponseDTO<DataUserDTO>> response =
+                    userService.listUsersPaginated(new PageQueryDTO(0, 1, "name", "asc", null, "none"));
+
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertEquals(1, response.getBody().content().size());
+            assertEquals("none", response.getBody().pagination().countStrategy());
+            assertNull(response.getBody().pagination().totalElements());
+            assertTrue(response.getBody().pagination().hasNext());
+            verify(userRepository, never()).findAllSummaries(any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("Should keep hasNext from the probe when the count estimate is stale")
+        void shouldKeepHasNextWhenEstimateIsStale() {
+            Pageable pageable = PageRequest.of(1, 1, Sort.by(Sort.Direction.ASC, "name"));
+            when(userRepository.findSlice(isNull(), eq(pageable)))
+                    .thenReturn(new SliceImpl<>(Arrays.asList(mockSummary), pageable, true));
+            when(userCountEstimator.estimate(any(), isNull())).thenReturn(1L);
+
+            ResponseEntity<PaginatedResponseDTO<DataUserDTO>> response =
+                    userService.listUsersPaginated(new PageQueryDTO(1, 1, "name", "asc", null, "estimated"));
+
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertTrue(response.getBody().pagination().hasNext());
+            assertFalse(response.getBody().pagination().isLast());
+            assertEquals(3L, response.getBody().pagination().totalElements());
+        }
+
+        @Test
+        @DisplayName("Should report the last page when the probe finds no more rows")
+        void shouldReportLastPageWhenProbeHasNoNext() {
+            Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "name"));
+            when(userRepository.findSlice(isNull(), eq(pageable)))
+                    .thenReturn(new SliceImpl<>(Arrays.asList(mockSummary), pageable, false));
+
+            ResponseEntity<PaginatedResponseDTO<DataUserDTO>> response =
+                    userService.listUsersPaginated(new PageQueryDTO(0, 10, "name", "asc", null, "estimated"));
+
+            assertFalse(response.getBody().pagination().hasNext());
+            assertEquals(1L, response.getBody().pagination().totalElements());
+            verifyNoInteractions(userCountEstimator);
+        }
+
+        @Test
+        @DisplayName("Should filter by age range in the database and sort age by date of birth")
+        void shouldFilterByAgeRangeAndSortAgeByDateOfBirth() {
+            Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "dateOfBirth"));
+            when(userRepository.findSlice(any(), eq(pageable)))
+                    .thenReturn(new SliceImpl<>(Arrays.asList(mockSummary), pageable, false));
+            when(userRepository.count(any(Specification.class))).thenReturn(1L);
+
+            ResponseEntity<PaginatedResponseDTO<DataUserDTO>> response = userService.listUsersPaginated(
+                    new PageQueryDTO(0, 10, "age", "asc", null, null, 18, 40));
+
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertEquals(1, response.getBody().content().size());
+            assertEquals(1L, response.getBody().pagination().totalElements());
+            verify(userRepository, never()).findAllSummaries(any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("Should return 400 when minAge is greater than maxAge")
+        void shouldReturn400WhenMinAgeIsGreaterThanMaxAge() {
+            ResponseEntity<PaginatedResponseDTO<DataUserDTO>> response = userService.listUsersPaginated(
+                    new PageQueryDTO(0, 10, "name", "asc", null, null, 30, 20));
+
+            assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+            verifyNoInteractions(userRepository);
+        }
+
+        @Test
+        @DisplayName("Should return 400 instead of overflowing the date math for an oversized maxAge")
+        void shouldReturn400ForOversizedMaxAge() {
+            ResponseEntity<PaginatedResponseDTO<DataUserDTO>> response = userService.listUsersPaginated(
+                    new PageQueryDTO(0, 10, "name", "asc", null, null, null, Integer.MAX_VALUE));
+
+            assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+            verifyNoInteractions(userRepository);
+        }
+
+        @Test
+        @DisplayName("Should return 400 for an unknown count strategy")
+        void shouldReturn400ForUnknownCountStrategy() {
+            ResponseEntity<PaginatedResponseDTO<DataUserDTO>> response =
+                    userService.listUsersPaginated(new PageQueryDTO(0, 10, "name", "asc", null, "approximate"));
+
+            assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+            assertEquals("Invalid count strategy. Use exact, estimated or none", response.getBody().message());
+        }
+
         @Test
         @DisplayName("Should return internal server error on exception")
         void shouldReturnInternalServerErrorOnException() {
-            when(userRepository.findAll(any(Pageable.class)))
+            when(userRepository.findAllSummaries(any(Pageable.class)))
                     .thenThrow(new RuntimeException("Database error"));
 
             ResponseEntity<PaginatedResponseDTO<DataUserDTO>> response =
@@ -145,7 +327,7 @@ class UserServiceTest {
         @Test
         @DisplayName("Should find user by ID successfully")
         void shouldFindUserByIdSuccessfully() {
-            when(userRepository.findById(userId)).thenReturn(Optional.of(mockUser));
+            when(userRepository.findSummaryById(userId)).thenReturn(Optional.of(mockSummary));
 
             ResponseEntity<ResponseUserDTO> response = userService.findUserById(userId);
 
@@ -156,10 +338,52 @@ class UserServiceTest {
             assertNotNull(response.getBody().user());
         }
 
+        @Test
+        @DisplayName("Should serve repeated lookups from the cache")
+        void shouldServeRepeatedLookupsFromCache() {
+            UUID cachedId = mockUser.getId();
+            when(userRepository.findSummaryById(cachedId)).thenReturn(Optional.of(mockSummary));
+
+            userService.findUserById(cachedId);
+            ResponseEntity<ResponseUserDTO> response = userService.findUserById(cachedId);
+
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            verify(userRepository, times(1)).findSummaryById(cachedId);
+        }
+
+        @Test
+        @DisplayName("Should return 304 when If-None-Match matches the current version")
+        void shouldReturn304WhenIfNoneMatchMatchesCurrentVersion() {
+            when(userRepository.findSummaryById(userId)).thenReturn(Optional.of(
+                    new UserSummary(userId, "João", "Silva", "12345678901", "joao@email.com", LocalDate.of(1990, 5, 15), 3)));
+            String etag = userService.findUserById(userId).getHeaders().getETag();
+            when(userRepository.findVersionById(userId)).thenReturn(Optional.of(3L));
+
+            ResponseEntity<ResponseUserDTO> response = userService.findUserById(userId, etag);
+
+            assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+            assertEquals(etag, response.getHeaders().getETag());
+            assertNull(response.getBody());
+            verify(userRepository, times(1)).findSummaryById(userId);
+        }
+
+        @Test
+        @DisplayName("Should return the user when If-None-Match is stale")
+        void shouldReturnUserWhenIfNoneMatchIsStale() {
+            when(userRepository.findVersionById(userId)).thenReturn(Optional.of(4L));
+            when(userRepository.findSummaryById(userId)).thenReturn(Optional.of(
+                    new UserSummary(userId, "João", "Silva", "12345678901", "joao@email.com", LocalDate.of(1990, 5, 15), 4)));
+
+            ResponseEntity<ResponseUserDTO> response = userService.findUserById(userId, "\"stale\"");
+
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertNotNull(response.getHeaders().getETag());
+        }
+
         @Test
         @DisplayName("Should return 404 when user not found")
         void shouldReturn404WhenUserNotFound() {
-            when(userRepository.findById(userId)).thenReturn(Optional.empty());
+            when(userRepository.findSummaryById(userId)).thenReturn(Optional.empty());
 
             ResponseEntity<ResponseUserDTO> response = userService.findUserById(userId);
 
@@ -172,7 +396,7 @@ class UserServiceTest {
         @Test
         @DisplayName("Should return internal server error on exception")
         void shouldReturnInternalServerErrorOnException() {
-            when(userRepository.findById(userId))
+            when(userRepository.findSummaryById(userId))
                     .thenThrow(new RuntimeException("Database error"));
 
             ResponseEntity<ResponseUserDTO> response = userService.findUserById(userId);
@@ -189,7 +413,7 @@ class UserServiceTest {
         @DisplayName("Should find user by CPF successfully")
         void shouldFindUserByCpfSuccessfully() {
             String cpf = "12345678901";
-            when(userRepository.findByCpf(cpf)).thenReturn(Optional.of(mockUser));
+            when(userRepository.findSummaryByCpf(cpf)).thenReturn(Optional.of(mockSummary));
 
             ResponseEntity<ResponseUserDTO> response = userService.findUserByCpf(cpf);
 
@@ -212,7 +436,7 @@ class UserServiceTest {
         @DisplayName("Should return 404 when user not found by CPF")
         void shouldReturn404WhenUserNotFoundByCpf() {
             String cpf = "12345678901";
-            when(userRepository.findByCpf(cpf)).thenReturn(Optional.empty());
+            when(userRepository.findSummaryByCpf(cpf)).thenReturn(Optional.empty());
 
             ResponseEntity<ResponseUserDTO> response = userService.findUserByCpf(cpf);
 
@@ -228,8 +452,8 @@ class UserServiceTest {
         @DisplayName("Should find user by email successfully")
         void shouldFindUserByEmailSuccessfully() {
             String email = "joao@email.com";
-            when(userRepository.findByEmail(email.toLowerCase()))
-                    .thenReturn(Optional.of(mockUser));
+            when(userRepository.findSummaryByEmail(email.toLowerCase()))
+                    .thenReturn(Optional.of(mockSummary));
 
             ResponseEntity<ResponseUserDTO> response = userService.findUserByEmail(email);
 
@@ -251,13 +475,13 @@ class UserServiceTest {
         @DisplayName("Should normalize email to lowercase")
         void shouldNormalizeEmailToLowercase() {
             String upperEmail = "JOAO@EMAIL.COM";
-            when(userRepository.findByEmail("joao@email.com"))
-                    .thenReturn(Optional.of(mockUser));
+            when(userRepository.findSummaryByEmail("joao@email.com"))
+                    .thenReturn(Optional.of(mockSummary));
 
             ResponseEntity<ResponseUserDTO> response = userService.findUserByEmail(upperEmail);
 
             assertEquals(HttpStatus.OK, response.getStatusCode());
-            verify(userRepository).findByEmail("joao@email.com");
+            verify(userRepository).findSummaryByEmail("joao@email.com");
         }
     }
 
@@ -269,7 +493,7 @@ class UserServiceTest {
         @DisplayName("Should search users successfully")
         void shouldSearchUsersSuccessfully() {
             String searchTerm = "João";
-            Page<User> userPage = new PageImpl<>(Arrays.asList(mockUser));
+            Page<UserSummary> userPage = new PageImpl<>(Arrays.asList(mockSummary));
             when(userRepository.searchByNameOrLastName(eq(searchTerm), any(Pageable.class)))
                     .thenReturn(userPage);
 
@@ -295,7 +519,7 @@ class UserServiceTest {
         @DisplayName("Should return error when no users found")
         void shouldReturnErrorWhenNoUsersFound() {
             String searchTerm = "NonExistent";
-            Page<User> emptyPage = new PageImpl<>(Collections.emptyList());
+            Page<UserSummary> emptyPage = new PageImpl<>(Collections.emptyList());
             when(userRepository.searchByNameOrLastName(eq(searchTerm), any(Pageable.class)))
                     .thenReturn(emptyPage);
 
@@ -330,10 +554,8 @@ class UserServiceTest {
             RegisterUserDTO dto = createValidRegisterDTO();
             String token = "generated-token";
 
-            when(userRepository.existsByEmail(anyString())).thenReturn(false);
-            when(userRepository.existsByCpf(anyString())).thenReturn(false);
             when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
-            when(userRepository.save(any(User.class))).thenReturn(mockUser);
+            when(userRepository.saveAndFlush(any(User.class))).thenReturn(mockUser);
             when(tokenService.generateToken(any(User.class))).thenReturn(token);
 
             ResponseEntity<RegisterResponseDTO> response = userService.register(dto);
@@ -360,23 +582,56 @@ class UserServiceTest {
         }
 
         @Test
-        @DisplayName("Should return 400 when email already exists")
+        @DisplayName("Should return 400 without hashing when email already exists")
         void shouldReturn400WhenEmailAlreadyExists() {
             RegisterUserDTO dto = createValidRegisterDTO();
-            when(userRepository.existsByEmail(anyString())).thenReturn(true);
+            when(userRepository.existsByEmail("joao@email.com")).thenReturn(true);
 
             ResponseEntity<RegisterResponseDTO> response = userService.register(dto);
 
             assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
             assertEquals("Email already registered", response.getBody().message());
+            verify(passwordEncoder, never()).encode(anyString());
+            verify(userRepository, never()).saveAndFlush(any(User.class));
         }
 
         @Test
-        @DisplayName("Should return 400 when CPF already exists")
+        @DisplayName("Should return 400 without hashing when CPF already exists")
         void shouldReturn400WhenCpfAlreadyExists() {
             RegisterUserDTO dto = createValidRegisterDTO();
-            when(userRepository.existsByEmail(anyString())).thenReturn(false);
-            when(userRepository.existsByCpf(anyString())).thenReturn(true);
+            when(userRepository.existsByCpf("12345678901")).thenReturn(true);
+
+            ResponseEntity<RegisterResponseDTO> response = userService.register(dto);
+
+            assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+            assertEquals("CPF already registered", response.getBody().message());
+            verify(passwordEncoder, never()).encode(anyString());
+            verify(userRepository, never()).saveAndFlush(any(User.class));
+        }
+
+        @Test
+        @DisplayName("Should return 400 when email is registered concurrently")
+        void shouldReturn400WhenEmailIsRegisteredConcurrently() {
+            RegisterUserDTO dto = createValidRegisterDTO();
+            when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+            when(userRepository.saveAndFlush(any(User.class))).thenThrow(new DataIntegrityViolationException(
+                    "could not execute statement",
+                    new SQLException("duplicate key value violates unique constraint \"uk_users_email\"")));
+
+            ResponseEntity<RegisterResponseDTO> response = userService.register(dto);
+
+            assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+            assertEquals("Email already registered", response.getBody().message());
+        }
+
+        @Test
+        @DisplayName("Should return 400 when CPF is registered concurrently")
+        void shouldReturn400WhenCpfIsRegisteredConcurrently() {
+            RegisterUserDTO dto = createValidRegisterDTO();
+            when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+            when(userRepository.saveAndFlush(any(User.class))).thenThrow(new DataIntegrityViolationException(
+                    "could not execute statement",
+                    new SQLException("duplicate key value violates unique constraint \"uk_users_cpf\"")));
 
             ResponseEntity<RegisterResponseDTO> response = userService.register(dto);
 
@@ -384,6 +639,20 @@ class UserServiceTest {
             assertEquals("CPF already registered", response.getBody().message());
         }
 
+        @Test
+        @DisplayName("Should return 503 with Retry-After when password hashing is saturated")
+        void shouldReturn503WhenPasswordHashingIsSaturated() {
+            RegisterUserDTO dto = createValidRegisterDTO();
+            when(passwordEncoder.encode(anyString()))
+                    .thenThrow(new PasswordHashingBusyException("Password hashing queue is full"));
+
+            ResponseEntity<RegisterResponseDTO> response = userService.register(dto);
+
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+            assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+            verify(userRepository, never()).saveAndFlush(any(User.class));
+        }
+
         @Test
         @DisplayName("Should capitalize names during registration")
         void shouldCapitalizeNamesDuringRegistration() {
@@ -392,15 +661,13 @@ class UserServiceTest {
                     LocalDate.of(1990, 5, 15), "joao@email.com", "password123"
             );
 
-            when(userRepository.existsByEmail(anyString())).thenReturn(false);
-            when(userRepository.existsByCpf(anyString())).thenReturn(false);
             when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
-            when(userRepository.save(any(User.class))).thenReturn(mockUser);
+            when(userRepository.saveAndFlush(any(User.class))).thenReturn(mockUser);
             when(tokenService.generateToken(any(User.class))).thenReturn("token");
 
             userService.register(dto);
 
-            verify(userRepository).save(argThat(user ->
+            verify(userRepository).saveAndFlush(argThat(user ->
                     "João Da Silva".equals(user.getName()) &&
                             "Dos Santos".equals(user.getLastName())
             ));
@@ -429,6 +696,25 @@ class UserServiceTest {
             assertEquals(token, response.getBody().token());
         }
 
+        @Test
+        @DisplayName("Should rehash password when stored hash uses a lower cost")
+        void shouldRehashPasswordWhenStoredHashUsesLowerCost() {
+            LoginRequestDTO dto = new LoginRequestDTO("joao@email.com", "password123");
+
+            when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(mockUser));
+            when(passwordEncoder.matches("password123", "encodedPassword")).thenReturn(true);
+            when(passwordEncoder.upgradeEncoding("encodedPassword")).thenReturn(true);
+            when(passwordEncoder.encode("password123")).thenReturn("rehashedPassword");
+            when(tokenService.generateToken(any(User.class))).thenReturn("generated-token");
+
+            ResponseEntity<LoginResponseDTO> response = userService.login(dto);
+
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            verify(userRepository).updatePasswordHash(eq(mockUser.getId()), eq("encodedPassword"),
+                    eq("rehashedPassword"), any(Instant.class));
+            verify(userRepository, never()).save(any(User.class));
+        }
+
         @Test
         @DisplayName("Should return 400 when email is null or empty")
         void shouldReturn400WhenEmailIsNullOrEmpty() {
@@ -473,6 +759,21 @@ class UserServiceTest {
             assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
             assertEquals("Invalid email or password", response.getBody().message());
         }
+
+        @Test
+        @DisplayName("Should return 503 with Retry-After when password hashing is saturated")
+        void shouldReturn503WhenPasswordHashingIsSaturated() {
+            LoginRequestDTO dto = new LoginRequestDTO("joao@email.com", "password123");
+            when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(mockUser));
+            when(passwordEncoder.matches(anyString(), anyString()))
+                    .thenThrow(new PasswordHashingBusyException("Password hashing queue is full"));
+
+            ResponseEntity<LoginResponseDTO> response = userService.login(dto);
+
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+            assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+            verify(tokenService, never()).generateToken(any(User.class));
+        }
     }
 
     @Nested
@@ -492,13 +793,17 @@ class UserServiceTest {
 
             when(userRepository.findById(userId)).thenReturn(Optional.of(mockUser));
             when(userRepository.existsByEmail("newemail@email.com")).thenReturn(false);
-            when(userRepository.save(any(User.class))).thenReturn(updatedUser);
+            when(userRepository.saveAndFlush(any(User.class))).thenReturn(updatedUser);
 
             ResponseEntity<UpdateResponseDTO> response = userService.updateUser(userId, dto);
 
             assertEquals(HttpStatus.OK, response.getStatusCode());
             assertTrue(response.getBody().success());
             assertEquals("User updated successfully", response.getBody().message());
+            verify(principalCache).evict("joao@email.com");
+            verify(userCache).evict(userId);
+            verify(readYourWrites).recordWrite();
+            verify(tokenService).invalidateTokens(userId);
         }
 
         @Test
@@ -538,6 +843,50 @@ class UserServiceTest {
             assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
             assertEquals("Email already in use by another user", response.getBody().message());
         }
+
+        @Test
+        @DisplayName("Should return 409 when a concurrent update bumped the version")
+        void shouldReturn409OnConcurrentUpdate() {
+            UpdateRequestUserDTO dto = new UpdateRequestUserDTO("Maria", null, null, null);
+            when(userRepository.findById(userId)).thenReturn(Optional.of(mockUser));
+            when(userRepository.saveAndFlush(any(User.class)))
+                    .thenThrow(new ObjectOptimisticLockingFailureException(User.class, userId));
+
+            ResponseEntity<UpdateResponseDTO> response = userService.updateUser(userId, dto);
+
+            assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+            assertFalse(response.getBody().success());
+            verify(userCache, never()).evict(userId);
+            verify(readYourWrites, never()).recordWrite();
+        }
+
+        @Test
+        @DisplayName("Should return 412 when a concurrent update races a conditional request")
+        void shouldReturn412OnConcurrentConditionalUpdate() {
+            UpdateRequestUserDTO dto = new UpdateRequestUserDTO("Maria", null, null, null);
+            when(userRepository.findById(userId)).thenReturn(Optional.of(mockUser));
+            when(userRepository.saveAndFlush(any(User.class)))
+                    .thenThrow(new ObjectOptimisticLockingFailureException(User.class, userId));
+            String ifMatch = "\"" + userId + "-" + mockUser.getVersion() + "-" + LocalDate.now().toEpochDay() + "\"";
+
+            ResponseEntity<UpdateResponseDTO> response = userService.updateUser(userId, dto, ifMatch);
+
+            assertEquals(HttpStatus.PRECONDITION_FAILED, response.getStatusCode());
+        }
+
+        @Test
+        @DisplayName("Should return 412 without writing when If-Match names an older version")
+        void shouldReturn412WhenIfMatchIsStale() {
+            UpdateRequestUserDTO dto = new UpdateRequestUserDTO("Maria", null, null, null);
+            when(userRepository.findById(userId)).thenReturn(Optional.of(mockUser));
+            String staleEtag = "\"" + userId + "-" + (mockUser.getVersion() - 1) + "-" + LocalDate.now().toEpochDay() + "\"";
+
+            ResponseEntity<UpdateResponseDTO> response = userService.updateUser(userId, dto, staleEtag);
+
+            assertEquals(HttpStatus.PRECONDITION_FAILED, response.getStatusCode());
+            assertNotNull(response.getHeaders().getETag());
+            verify(userRepository, never()).saveAndFlush(any(User.class));
+        }
     }
 
     @Nested
@@ -555,6 +904,8 @@ class UserServiceTest {
             assertTrue(response.getBody().success());
             assertEquals("User deleted successfully", response.getBody().message());
             verify(userRepository).deleteById(userId);
+            verify(principalCache).evict(userId);
+            verify(tokenService).revokeTokens(userId);
         }
 
         @Test
@@ -589,14 +940,14 @@ class UserServiceTest {
         @Test
         @DisplayName("Should calculate age correctly")
         void shouldCalculateAgeCorrectly() {
-            User testUser = new User();
-            testUser.setDateOfBirth(LocalDate.now().minusYears(25));
+            UserSummary testUser = new UserSummary(userId, "João", "Silva", "12345678901", "joao@email.com",
+                    LocalDate.now().minusYears(25), 0);
 
-            when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
+            when(userRepository.findSummaryById(userId)).thenReturn(Optional.of(testUser));
 
             ResponseEntity<ResponseUserDTO> response = userService.findUserById(userId);
 
-            verify(userRepository, times(1)).findById(userId);
+            verify(userRepository, times(1)).findSummaryById(userId);
 
             assertEquals(25, response.getBody().user().age());
         }
@@ -0,0 +1,36 @@
+package com.neoapp.validation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Cpf Tests")
+class CpfTest {
+
+    @Test
+    @DisplayName("Should accept CPFs with valid check digits")
+    void shouldAcceptValidCpfs() {
+        assertTrue(Cpf.isValid("52998224725"));
+        assertTrue(Cpf.isValid("12345678909"));
+    }
+
+    @Test
+    @DisplayName("Should reject wrong check digits, repeated digits and malformed input")
+    void shouldRejectInvalidCpfs() {
+        assertFalse(Cpf.isValid("52998224724"));
+        assertFalse(Cpf.isValid("12345678901"));
+        assertFalse(Cpf.isValid("11111111111"));
+        assertFalse(Cpf.isValid("123.456.789-09"));
+        assertFalse(Cpf.isValid("5299822472"));
+        assertFalse(Cpf.isValid(null));
+    }
+
+    @Test
+    @DisplayName("Should check only the format when asked if a CPF is well formed")
+    void shouldCheckFormatOnly() {
+        assertTrue(Cpf.isWellFormed("12345678901"));
+        assertFalse(Cpf.isWellFormed("1234567890a"));
+        assertFalse(Cpf.isWellFormed("123"));
+    }
+}
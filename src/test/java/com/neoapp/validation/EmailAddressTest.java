@@ -0,0 +1,45 @@
+package com.neoapp.validation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EmailAddress Tests")
+class EmailAddressTest {
+
+    @Test
+    @DisplayName("Should accept dot-atom addresses")
+    void shouldAcceptValidAddresses() {
+        assertTrue(EmailAddress.isValid("joao@email.com"));
+        assertTrue(EmailAddress.isValid("joao.silva+tag@sub.email.com.br"));
+        assertTrue(EmailAddress.isValid("a@localhost"));
+        assertTrue(EmailAddress.isValid("a@" + "x".repeat(63) + ".com"));
+    }
+
+    @Test
+    @DisplayName("Should reject malformed local parts")
+    void shouldRejectMalformedLocalParts() {
+        assertFalse(EmailAddress.isValid("invalid-email"));
+        assertFalse(EmailAddress.isValid("@email.com"));
+        assertFalse(EmailAddress.isValid(".joao@email.com"));
+        assertFalse(EmailAddress.isValid("joao.@email.com"));
+        assertFalse(EmailAddress.isValid("jo..ao@email.com"));
+        assertFalse(EmailAddress.isValid("jo ao@email.com"));
+        assertFalse(EmailAddress.isValid("x".repeat(65) + "@email.com"));
+    }
+
+    @Test
+    @DisplayName("Should reject malformed domains")
+    void shouldRejectMalformedDomains() {
+        assertFalse(EmailAddress.isValid("joao@"));
+        assertFalse(EmailAddress.isValid("joao@-email.com"));
+        assertFalse(EmailAddress.isValid("joao@email-.com"));
+        assertFalse(EmailAddress.isValid("joao@email..com"));
+        assertFalse(EmailAddress.isValid("joao@email.com."));
+        assertFalse(EmailAddress.isValid("joao@em_ail.com"));
+        assertFalse(EmailAddress.isValid("joao@a@email.com"));
+        assertFalse(EmailAddress.isValid("a@" + "x".repeat(64) + ".com"));
+        assertFalse(EmailAddress.isValid("a@" + "x.".repeat(130) + "com"));
+    }
+}